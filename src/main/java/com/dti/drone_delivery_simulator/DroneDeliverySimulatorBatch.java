@@ -0,0 +1,42 @@
+package com.dti.drone_delivery_simulator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.dti.drone_delivery_simulator.batch.BatchOptions;
+import com.dti.drone_delivery_simulator.batch.BatchReport;
+import com.dti.drone_delivery_simulator.batch.BatchSimulationRunner;
+import com.dti.drone_delivery_simulator.capacity.FleetSizingOptions;
+import com.dti.drone_delivery_simulator.capacity.MonteCarloFleetSizer;
+import com.dti.drone_delivery_simulator.simulation.VirtualClock;
+
+public class DroneDeliverySimulatorBatch {
+
+	private static final String FLEET_SIZING = "fleet-sizing";
+
+	public static void main(String[] args) {
+		defaultProperty("simulator.clock.mode", VirtualClock.NAME);
+		defaultProperty("spring.devtools.restart.enabled", "false");
+		defaultProperty("logging.level.com.dti.drone_delivery_simulator.service", "WARN");
+
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(DroneDeliverySimulatorApplication.class)
+			.web(WebApplicationType.NONE)
+			.run(args);
+
+		if (FLEET_SIZING.equals(context.getEnvironment().getProperty("simulator.batch.mode"))) {
+			new MonteCarloFleetSizer(FleetSizingOptions.from(context.getEnvironment())).run().print(System.out);
+		} else {
+			BatchReport report = context.getBean(BatchSimulationRunner.class).run(BatchOptions.from(context.getEnvironment()));
+			report.print(System.out);
+		}
+		System.exit(SpringApplication.exit(context));
+	}
+
+	private static void defaultProperty(String key, String value) {
+		if (System.getProperty(key) == null) {
+			System.setProperty(key, value);
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.dti.drone_delivery_simulator.allocation;
+
+import java.util.List;
+
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+
+public interface AllocationStrategy {
+
+    String name();
+
+    List<DroneAssignment> plan(List<Drone> drones, List<Order> queuedOrders);
+}
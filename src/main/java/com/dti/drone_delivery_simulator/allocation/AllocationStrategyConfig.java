@@ -0,0 +1,25 @@
+package com.dti.drone_delivery_simulator.allocation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+
+@Configuration
+public class AllocationStrategyConfig {
+
+    @Bean
+    public AllocationStrategy allocationStrategy(
+            @Value("${simulator.allocation.strategy:first-fit}") String name,
+            @Value("${simulator.allocation.savings.window:512}") int savingsWindow,
+            DistanceMatrix distanceMatrix) {
+        return switch (name) {
+            case FirstFitStrategy.NAME -> new FirstFitStrategy();
+            case FirstFitDecreasingStrategy.NAME -> new FirstFitDecreasingStrategy();
+            case BestFitStrategy.NAME -> new BestFitStrategy();
+            case SavingsStrategy.NAME -> new SavingsStrategy(savingsWindow, distanceMatrix);
+            default -> throw new IllegalArgumentException("Estratégia de alocação desconhecida: " + name);
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.dti.drone_delivery_simulator.allocation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+
+public class BestFitStrategy implements AllocationStrategy {
+
+    public static final String NAME = "best-fit";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<DroneAssignment> plan(List<Drone> drones, List<Order> queuedOrders) {
+        List<DroneAssignment> assignments = new ArrayList<>(drones.size());
+        for (Drone drone : drones) {
+            assignments.add(new DroneAssignment(drone, LoadPlan.of(drone), new ArrayList<>()));
+        }
+        List<DroneAssignment> open = new ArrayList<>(assignments);
+
+        for (Order order : queuedOrders) {
+            if (open.isEmpty()) {
+                break;
+            }
+            if (order.getState() != OrderState.PENDING) {
+                continue;
+            }
+
+            DroneAssignment best = null;
+            double bestRemaining = Double.MAX_VALUE;
+            for (DroneAssignment candidate : open) {
+                LoadPlan plan = candidate.plan();
+                double remaining = plan.remainingPayloadKg() - order.getPayloadKg();
+                if (remaining >= 0 && remaining < bestRemaining && plan.reaches(order) && plan.fits(order)) {
+                    best = candidate;
+                    bestRemaining = remaining;
+                }
+            }
+
+            if (best != null) {
+                best.plan().tryAdd(order);
+                best.orders().add(order);
+                if (best.plan().isFull()) {
+                    open.remove(best);
+                }
+            }
+        }
+        return assignments;
+    }
+}
@@ -0,0 +1,17 @@
+package com.dti.drone_delivery_simulator.allocation;
+
+import java.util.List;
+
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+
+public record DroneAssignment(
+    Drone drone,
+    LoadPlan plan,
+    List<Order> orders
+) {
+
+    public List<Order> inTourOrder() {
+        return plan.addedRoute();
+    }
+}
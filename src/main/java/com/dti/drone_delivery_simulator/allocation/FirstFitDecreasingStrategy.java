@@ -0,0 +1,34 @@
+package com.dti.drone_delivery_simulator.allocation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.dti.drone_delivery_simulator.model.Order;
+
+public class FirstFitDecreasingStrategy extends FirstFitStrategy {
+
+    public static final String NAME = "first-fit-decreasing";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    protected List<Order> candidates(List<Order> queuedOrders) {
+        List<Order> sorted = new ArrayList<>(queuedOrders);
+        Comparator<Order> heaviestFirst = Comparator.comparingDouble(Order::getPayloadKg).reversed();
+
+        int start = 0;
+        while (start < sorted.size()) {
+            int end = start + 1;
+            while (end < sorted.size() && sorted.get(end).getPriority() == sorted.get(start).getPriority()) {
+                end++;
+            }
+            sorted.subList(start, end).sort(heaviestFirst);
+            start = end;
+        }
+        return sorted;
+    }
+}
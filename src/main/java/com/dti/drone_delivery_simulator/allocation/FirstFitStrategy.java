@@ -0,0 +1,51 @@
+package com.dti.drone_delivery_simulator.allocation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+
+public class FirstFitStrategy implements AllocationStrategy {
+
+    public static final String NAME = "first-fit";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<DroneAssignment> plan(List<Drone> drones, List<Order> queuedOrders) {
+        List<DroneAssignment> assignments = new ArrayList<>();
+        Set<Long> assigned = new HashSet<>();
+        List<Order> candidates = candidates(queuedOrders);
+
+        for (Drone drone : drones) {
+            LoadPlan plan = LoadPlan.of(drone);
+            List<Order> orders = new ArrayList<>();
+
+            for (Order order : candidates) {
+                if (plan.isFull()) {
+                    break;
+                }
+                if (order.getState() == OrderState.PENDING
+                        && !assigned.contains(order.getId())
+                        && plan.reaches(order)
+                        && plan.tryAdd(order)) {
+                    orders.add(order);
+                    assigned.add(order.getId());
+                }
+            }
+            assignments.add(new DroneAssignment(drone, plan, orders));
+        }
+        return assignments;
+    }
+
+    protected List<Order> candidates(List<Order> queuedOrders) {
+        return queuedOrders;
+    }
+}
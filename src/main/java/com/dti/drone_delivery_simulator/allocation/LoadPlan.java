@@ -0,0 +1,145 @@
+package com.dti.drone_delivery_simulator.allocation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+
+public final class LoadPlan {
+
+    private final double maxPayloadKg;
+    private final double maxRangeKm;
+
+    private double payloadKg;
+    private double tourKm;
+    private int[] stopsX = new int[8];
+    private int[] stopsY = new int[8];
+    private Order[] stopOrders = new Order[8];
+    private int[] stopSequence = new int[8];
+    private int stops;
+    private int carried;
+
+    public LoadPlan(double maxPayloadKg, double maxRangeKm) {
+        this.maxPayloadKg = maxPayloadKg;
+        this.maxRangeKm = maxRangeKm;
+    }
+
+    public static LoadPlan of(Drone drone) {
+        LoadPlan plan = new LoadPlan(drone.getMaxPayloadKg(), drone.getMaxRangeKm());
+        for (Order order : drone.getOrders()) {
+            plan.payloadKg += order.getPayloadKg();
+            plan.insertAt(plan.cheapestPosition(order.getClientPositionX(), order.getClientPositionY()), order);
+        }
+        plan.carried = plan.stops;
+        return plan;
+    }
+
+    public boolean reaches(Order order) {
+        return RouteCost.fromBase(order.getClientPositionX(), order.getClientPositionY()) <= maxRangeKm / 2;
+    }
+
+    public boolean isFull() {
+        return payloadKg >= maxPayloadKg;
+    }
+
+    public boolean fits(Order order) {
+        if (payloadKg + order.getPayloadKg() > maxPayloadKg) {
+            return false;
+        }
+
+        int x = order.getClientPositionX();
+        int y = order.getClientPositionY();
+        return tourKm + insertionCost(cheapestPosition(x, y), x, y) <= maxRangeKm;
+    }
+
+    public boolean tryAdd(Order order) {
+        if (payloadKg + order.getPayloadKg() > maxPayloadKg) {
+            return false;
+        }
+
+        int x = order.getClientPositionX();
+        int y = order.getClientPositionY();
+        int position = cheapestPosition(x, y);
+        if (tourKm + insertionCost(position, x, y) > maxRangeKm) {
+            return false;
+        }
+
+        payloadKg += order.getPayloadKg();
+        insertAt(position, order);
+        return true;
+    }
+
+    public double payloadKg() {
+        return payloadKg;
+    }
+
+    public double remainingPayloadKg() {
+        return maxPayloadKg - payloadKg;
+    }
+
+    public double tourKm() {
+        return tourKm;
+    }
+
+    public List<Order> route() {
+        return Arrays.asList(Arrays.copyOf(stopOrders, stops));
+    }
+
+    public List<Order> addedRoute() {
+        List<Order> added = new ArrayList<>(stops - carried);
+        for (int position = 0; position < stops; position++) {
+            if (stopSequence[position] >= carried) {
+                added.add(stopOrders[position]);
+            }
+        }
+        return added;
+    }
+
+    private int cheapestPosition(int x, int y) {
+        int best = 0;
+        double bestCost = Double.MAX_VALUE;
+        for (int position = 0; position <= stops; position++) {
+            double cost = insertionCost(position, x, y);
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = position;
+            }
+        }
+        return best;
+    }
+
+    private double insertionCost(int position, int x, int y) {
+        int previousX = position == 0 ? RouteCost.BASE_X : stopsX[position - 1];
+        int previousY = position == 0 ? RouteCost.BASE_Y : stopsY[position - 1];
+        int nextX = position == stops ? RouteCost.BASE_X : stopsX[position];
+        int nextY = position == stops ? RouteCost.BASE_Y : stopsY[position];
+
+        return RouteCost.distance(previousX, previousY, x, y)
+            + RouteCost.distance(x, y, nextX, nextY)
+            - RouteCost.distance(previousX, previousY, nextX, nextY);
+    }
+
+    private void insertAt(int position, Order order) {
+        int x = order.getClientPositionX();
+        int y = order.getClientPositionY();
+        tourKm += insertionCost(position, x, y);
+        if (stops == stopsX.length) {
+            stopsX = Arrays.copyOf(stopsX, stops * 2);
+            stopsY = Arrays.copyOf(stopsY, stops * 2);
+            stopOrders = Arrays.copyOf(stopOrders, stops * 2);
+            stopSequence = Arrays.copyOf(stopSequence, stops * 2);
+        }
+        System.arraycopy(stopsX, position, stopsX, position + 1, stops - position);
+        System.arraycopy(stopsY, position, stopsY, position + 1, stops - position);
+        System.arraycopy(stopOrders, position, stopOrders, position + 1, stops - position);
+        System.arraycopy(stopSequence, position, stopSequence, position + 1, stops - position);
+        stopsX[position] = x;
+        stopsY[position] = y;
+        stopOrders[position] = order;
+        stopSequence[position] = stops;
+        stops++;
+    }
+}
@@ -0,0 +1,181 @@
+package com.dti.drone_delivery_simulator.allocation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class PartitionedAllocator {
+
+    private static final double BOUNDARY_BAND = 0.1;
+
+    private final boolean enabled;
+    private final int partitions;
+    private final int minOrders;
+    private final ForkJoinPool pool;
+
+    public PartitionedAllocator(
+            @Value("${simulator.allocation.parallel.enabled:false}") boolean enabled,
+            @Value("${simulator.allocation.parallel.partitions:0}") int partitions,
+            @Value("${simulator.allocation.parallel.min-orders:2048}") int minOrders) {
+        this.enabled = enabled;
+        this.partitions = partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+        this.minOrders = minOrders;
+        this.pool = enabled ? new ForkJoinPool(this.partitions) : null;
+    }
+
+    public boolean shouldPartition(int drones, int orders) {
+        return enabled && partitions > 1 && drones > 1 && orders >= minOrders;
+    }
+
+    public List<DroneAssignment> plan(List<Drone> drones, List<Order> orders,
+            BiFunction<List<Drone>, List<Order>, List<DroneAssignment>> planner) {
+        int count = Math.min(partitions, drones.size());
+        double[] bounds = sectorBounds(orders, count);
+
+        List<List<Drone>> droneParts = new ArrayList<>(count);
+        List<List<Order>> orderParts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            droneParts.add(new ArrayList<>());
+            orderParts.add(new ArrayList<>());
+        }
+        List<Drone> bySize = new ArrayList<>(drones);
+        bySize.sort(Comparator.comparingDouble(Drone::getMaxRangeKm)
+            .thenComparingDouble(Drone::getMaxPayloadKg).reversed());
+        for (Drone drone : bySize) {
+            List<Drone> smallest = droneParts.get(0);
+            for (List<Drone> part : droneParts) {
+                if (part.size() < smallest.size()) {
+                    smallest = part;
+                }
+            }
+            smallest.add(drone);
+        }
+        for (Order order : orders) {
+            orderParts.get(sectorOf(angle(order), bounds)).add(order);
+        }
+
+        List<ForkJoinTask<List<DroneAssignment>>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Drone> partDrones = droneParts.get(i);
+            List<Order> partOrders = orderParts.get(i);
+            tasks.add(pool.submit(() -> planner.apply(partDrones, partOrders)));
+        }
+
+        Map<Long, DroneAssignment> byDrone = new LinkedHashMap<>();
+        Set<Long> assigned = new HashSet<>();
+        for (ForkJoinTask<List<DroneAssignment>> task : tasks) {
+            for (DroneAssignment assignment : task.join()) {
+                byDrone.put(assignment.drone().getId(), assignment);
+                assignment.orders().forEach(order -> assigned.add(order.getId()));
+            }
+        }
+
+        mergeBoundaryLeftovers(drones, orders, bounds, byDrone, assigned);
+
+        List<DroneAssignment> result = new ArrayList<>(byDrone.size());
+        for (Drone drone : drones) {
+            DroneAssignment assignment = byDrone.get(drone.getId());
+            if (assignment != null && !assignment.orders().isEmpty()) {
+                result.add(assignment);
+            }
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private void mergeBoundaryLeftovers(List<Drone> drones, List<Order> orders, double[] bounds,
+            Map<Long, DroneAssignment> byDrone, Set<Long> assigned) {
+        List<Order> leftovers = new ArrayList<>();
+        double lightestKg = Double.MAX_VALUE;
+        for (Order order : orders) {
+            if (!assigned.contains(order.getId()) && nearBoundary(angle(order), bounds)) {
+                leftovers.add(order);
+                lightestKg = Math.min(lightestKg, order.getPayloadKg());
+            }
+        }
+        if (leftovers.isEmpty()) {
+            return;
+        }
+
+        boolean[] taken = new boolean[leftovers.size()];
+        int remaining = leftovers.size();
+        for (Drone drone : drones) {
+            if (remaining == 0) {
+                return;
+            }
+            DroneAssignment assignment = byDrone.get(drone.getId());
+            LoadPlan plan = assignment != null ? assignment.plan() : LoadPlan.of(drone);
+            if (plan.remainingPayloadKg() < lightestKg) {
+                continue;
+            }
+            if (assignment == null) {
+                assignment = new DroneAssignment(drone, plan, new ArrayList<>());
+                byDrone.put(drone.getId(), assignment);
+            }
+
+            for (int i = 0; i < leftovers.size() && plan.remainingPayloadKg() >= lightestKg; i++) {
+                Order order = leftovers.get(i);
+                if (!taken[i] && plan.reaches(order) && plan.tryAdd(order)) {
+                    assignment.orders().add(order);
+                    taken[i] = true;
+                    remaining--;
+                }
+            }
+        }
+    }
+
+    private static boolean nearBoundary(double angle, double[] bounds) {
+        int sector = sectorOf(angle, bounds);
+        double lower = sector == 0 ? -Math.PI : bounds[sector - 1];
+        double upper = sector == bounds.length ? Math.PI : bounds[sector];
+        double band = (upper - lower) * BOUNDARY_BAND;
+        return angle - lower <= band || upper - angle <= band;
+    }
+
+    private static double[] sectorBounds(List<Order> orders, int count) {
+        double[] angles = new double[orders.size()];
+        for (int i = 0; i < angles.length; i++) {
+            angles[i] = angle(orders.get(i));
+        }
+        Arrays.sort(angles);
+
+        double[] bounds = new double[count - 1];
+        for (int i = 1; i < count; i++) {
+            bounds[i - 1] = angles.length == 0 ? 0 : angles[(int) ((long) angles.length * i / count)];
+        }
+        return bounds;
+    }
+
+    private static int sectorOf(double angle, double[] bounds) {
+        int index = Arrays.binarySearch(bounds, angle);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static double angle(Order order) {
+        return Math.atan2(order.getClientPositionY() - RouteCost.BASE_Y, order.getClientPositionX() - RouteCost.BASE_X);
+    }
+}
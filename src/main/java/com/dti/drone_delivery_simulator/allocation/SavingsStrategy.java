@@ -0,0 +1,222 @@
+package com.dti.drone_delivery_simulator.allocation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+
+public class SavingsStrategy implements AllocationStrategy {
+
+    public static final String NAME = "savings";
+
+    private final int window;
+    private final DistanceMatrix distanceMatrix;
+
+    public SavingsStrategy(int window, DistanceMatrix distanceMatrix) {
+        this.window = window;
+        this.distanceMatrix = distanceMatrix;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<DroneAssignment> plan(List<Drone> drones, List<Order> queuedOrders) {
+        double maxPayloadKg = 0;
+        double maxRangeKm = 0;
+        for (Drone drone : drones) {
+            maxPayloadKg = Math.max(maxPayloadKg, drone.getMaxPayloadKg());
+            maxRangeKm = Math.max(maxRangeKm, drone.getMaxRangeKm());
+        }
+
+        List<Order> candidates = new ArrayList<>(Math.min(window, queuedOrders.size()));
+        for (Order order : queuedOrders) {
+            if (candidates.size() == window) {
+                break;
+            }
+            if (order.getState() == OrderState.PENDING
+                    && order.getPayloadKg() <= maxPayloadKg
+                    && baseDistance(order) * 2 <= maxRangeKm) {
+                candidates.add(order);
+            }
+        }
+
+        List<List<Integer>> routes = buildRoutes(new Stops(candidates, distanceMatrix), maxPayloadKg, maxRangeKm);
+
+        List<DroneAssignment> assignments = new ArrayList<>(drones.size());
+        Set<Long> assigned = new HashSet<>();
+        for (Drone drone : drones) {
+            LoadPlan plan = LoadPlan.of(drone);
+            List<Order> orders = new ArrayList<>();
+
+            for (int route = 0; route < routes.size() && orders.isEmpty(); route++) {
+                LoadPlan trial = LoadPlan.of(drone);
+                List<Order> stops = new ArrayList<>();
+                for (int stop : routes.get(route)) {
+                    Order order = candidates.get(stop);
+                    if (!trial.reaches(order) || !trial.tryAdd(order)) {
+                        break;
+                    }
+                    stops.add(order);
+                }
+                if (stops.size() == routes.get(route).size()) {
+                    plan = trial;
+                    orders.addAll(stops);
+                    stops.forEach(order -> assigned.add(order.getId()));
+                    routes.remove(route);
+                }
+            }
+            assignments.add(new DroneAssignment(drone, plan, orders));
+        }
+
+        for (DroneAssignment assignment : assignments) {
+            for (Order order : queuedOrders) {
+                if (assignment.plan().isFull()) {
+                    break;
+                }
+                if (order.getState() == OrderState.PENDING
+                        && !assigned.contains(order.getId())
+                        && assignment.plan().reaches(order)
+                        && assignment.plan().tryAdd(order)) {
+                    assignment.orders().add(order);
+                    assigned.add(order.getId());
+                }
+            }
+        }
+        return assignments;
+    }
+
+    private static List<List<Integer>> buildRoutes(Stops candidates, double maxPayloadKg, double maxRangeKm) {
+        int count = candidates.size();
+        List<List<Integer>> stops = new ArrayList<>(count);
+        int[] routeOf = new int[count];
+        double[] payloadKg = new double[count];
+        double[] lengthKm = new double[count];
+        for (int i = 0; i < count; i++) {
+            stops.add(new ArrayList<>(List.of(i)));
+            routeOf[i] = i;
+            payloadKg[i] = candidates.orders.get(i).getPayloadKg();
+            lengthKm[i] = candidates.fromBase(i) * 2;
+        }
+
+        for (long saving : rankedSavings(candidates)) {
+            int pair = (int) saving;
+            int i = pair / count;
+            int j = pair % count;
+            int first = routeOf[i];
+            int second = routeOf[j];
+            if (first == second || payloadKg[first] + payloadKg[second] > maxPayloadKg) {
+                continue;
+            }
+
+            List<Integer> left = stops.get(first);
+            List<Integer> right = stops.get(second);
+            if (!isEndpoint(left, i) || !isEndpoint(right, j)) {
+                continue;
+            }
+
+            double merged = lengthKm[first] + lengthKm[second]
+                - candidates.fromBase(i) - candidates.fromBase(j) + candidates.between(i, j);
+            if (merged > maxRangeKm) {
+                continue;
+            }
+
+            if (left.get(left.size() - 1) != i) {
+                Collections.reverse(left);
+            }
+            if (right.get(0) != j) {
+                Collections.reverse(right);
+            }
+            left.addAll(right);
+            right.forEach(stop -> routeOf[stop] = first);
+            stops.set(second, null);
+            payloadKg[first] += payloadKg[second];
+            lengthKm[first] = merged;
+        }
+
+        List<List<Integer>> routes = new ArrayList<>();
+        for (List<Integer> route : stops) {
+            if (route != null) {
+                routes.add(route);
+            }
+        }
+        routes.sort(Comparator.comparingInt(route -> Collections.min(route)));
+        return routes;
+    }
+
+    private static long[] rankedSavings(Stops candidates) {
+        int count = candidates.size();
+        long[] savings = new long[count * (count - 1) / 2];
+        int size = 0;
+        for (int j = 1; j < count; j++) {
+            double toBase = candidates.fromBase(j);
+            for (int i = 0; i < j; i++) {
+                double saving = candidates.fromBase(i) + toBase - candidates.between(j, i);
+                if (saving > 0) {
+                    savings[size++] = (long) Float.floatToIntBits((float) saving) << 32 | (i * count + j);
+                }
+            }
+        }
+
+        long[] ranked = Arrays.copyOf(savings, size);
+        Arrays.sort(ranked);
+        for (int low = 0, high = size - 1; low < high; low++, high--) {
+            long swap = ranked[low];
+            ranked[low] = ranked[high];
+            ranked[high] = swap;
+        }
+        return ranked;
+    }
+
+    private static boolean isEndpoint(List<Integer> route, int stop) {
+        return route.get(0) == stop || route.get(route.size() - 1) == stop;
+    }
+
+    private static double baseDistance(Order order) {
+        return RouteCost.fromBase(order.getClientPositionX(), order.getClientPositionY());
+    }
+
+    private static final class Stops {
+
+        private final List<Order> orders;
+        private final DistanceMatrix distanceMatrix;
+        private final int[] slots;
+
+        Stops(List<Order> orders, DistanceMatrix distanceMatrix) {
+            this.orders = orders;
+            this.distanceMatrix = distanceMatrix;
+            this.slots = distanceMatrix.slotsOf(orders);
+        }
+
+        int size() {
+            return orders.size();
+        }
+
+        double fromBase(int stop) {
+            return slots != null
+                ? distanceMatrix.distance(DistanceMatrix.BASE, slots[stop])
+                : baseDistance(orders.get(stop));
+        }
+
+        double between(int from, int to) {
+            if (slots != null) {
+                return distanceMatrix.distance(slots[from], slots[to]);
+            }
+            Order first = orders.get(from);
+            Order second = orders.get(to);
+            return RouteCost.distance(first.getClientPositionX(), first.getClientPositionY(),
+                second.getClientPositionX(), second.getClientPositionY());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.dti.drone_delivery_simulator.batch;
+
+import org.springframework.core.env.Environment;
+
+public record BatchOptions(
+    String workload,
+    int orders,
+    long seed,
+    long arrivalIntervalMs,
+    int drones,
+    double dronePayloadKg,
+    double droneRangeKm,
+    long timeoutSeconds
+) {
+
+    public static BatchOptions from(Environment environment) {
+        return new BatchOptions(
+            environment.getProperty("simulator.batch.workload", ""),
+            environment.getProperty("simulator.batch.orders", Integer.class, 10_000),
+            environment.getProperty("simulator.batch.seed", Long.class, 42L),
+            environment.getProperty("simulator.batch.arrival-interval-ms", Long.class, 500L),
+            environment.getProperty("simulator.batch.drones", Integer.class, 0),
+            environment.getProperty("simulator.batch.drone-payload-kg", Double.class, 10.0),
+            environment.getProperty("simulator.batch.drone-range-km", Double.class, 25.0),
+            environment.getProperty("simulator.batch.timeout-s", Long.class, 300L));
+    }
+}
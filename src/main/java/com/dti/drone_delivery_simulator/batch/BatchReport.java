@@ -0,0 +1,39 @@
+package com.dti.drone_delivery_simulator.batch;
+
+import java.io.PrintStream;
+
+public record BatchReport(
+    int submitted,
+    long accepted,
+    long refused,
+    long delivered,
+    double wallSeconds,
+    double simulatedSeconds,
+    double kmFlown,
+    long allocationCycles,
+    double allocationMeanMs,
+    double allocationP95Ms,
+    double allocationMaxMs,
+    double latencyP50Seconds,
+    double latencyP95Seconds,
+    double latencyP99Seconds,
+    double latencyMaxSeconds
+) {
+
+    public double ordersPerSecond() {
+        return wallSeconds > 0 ? delivered / wallSeconds : 0;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("Pedidos: %d enviados, %d aceitos, %d recusados, %d entregues%n",
+            submitted, accepted, refused, delivered);
+        out.printf("Tempo: %.2f s reais para %.0f s simulados (%.0fx)%n",
+            wallSeconds, simulatedSeconds, wallSeconds > 0 ? simulatedSeconds / wallSeconds : 0);
+        out.printf("Vazão: %.0f pedidos/s%n", ordersPerSecond());
+        out.printf("Distância voada: %.1f km%n", kmFlown);
+        out.printf("Ciclos de alocação: %d (média %.3f ms, p95 %.3f ms, máx %.3f ms)%n",
+            allocationCycles, allocationMeanMs, allocationP95Ms, allocationMaxMs);
+        out.printf("Latência ponta a ponta (simulada): p50 %.0f s, p95 %.0f s, p99 %.0f s, máx %.0f s%n",
+            latencyP50Seconds, latencyP95Seconds, latencyP99Seconds, latencyMaxSeconds);
+    }
+}
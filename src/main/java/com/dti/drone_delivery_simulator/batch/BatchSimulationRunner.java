@@ -0,0 +1,176 @@
+package com.dti.drone_delivery_simulator.batch;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.dti.drone_delivery_simulator.dto.RouteResponseDTO;
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.exception.OrderPayloadException;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
+import com.dti.drone_delivery_simulator.service.DeliveryListener;
+import com.dti.drone_delivery_simulator.service.DeliveryService;
+import com.dti.drone_delivery_simulator.service.OrderService;
+import com.dti.drone_delivery_simulator.service.RouteService;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class BatchSimulationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchSimulationRunner.class);
+    private static final long POLL_MILLIS = 20;
+
+    private final OrderService orderService;
+    private final DeliveryService deliveryService;
+    private final RouteService routeService;
+    private final InMemoryDroneRepository droneRepository;
+    private final SimulationEngine simulationEngine;
+    private final MeterRegistry meterRegistry;
+
+    public BatchReport run(BatchOptions options) {
+        addDrones(options.drones(), options.dronePayloadKg(), options.droneRangeKm());
+        if (!options.workload().isBlank()) {
+            List<WorkloadOrder> workload = BatchWorkload.load(Path.of(options.workload()));
+            log.info("Simulação em lote iniciada com {} pedidos e {} drones.", workload.size(), droneRepository.findAll().size());
+            return run(workload.iterator(), options.timeoutSeconds());
+        }
+
+        WorkloadProfile profile = WorkloadProfile.DEFAULT.withArrivalsPerSecond(1_000.0 / options.arrivalIntervalMs());
+        log.info("Simulação em lote iniciada com {} pedidos sintéticos e {} drones.", options.orders(), droneRepository.findAll().size());
+        return run(WorkloadGenerator.stream(profile, options.seed()).limit(options.orders()).iterator(), options.timeoutSeconds());
+    }
+
+    public BatchReport run(List<WorkloadOrder> workload, long timeoutSeconds) {
+        return run(workload.iterator(), timeoutSeconds);
+    }
+
+    public BatchReport run(Iterator<WorkloadOrder> workload, long timeoutSeconds) {
+        Map<Long, Long> arrivals = new ConcurrentHashMap<>();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger submitted = new AtomicInteger();
+        AtomicLong accepted = new AtomicLong();
+        AtomicLong refused = new AtomicLong();
+
+        deliveryService.onDelivery(new DeliveryListener() {
+            @Override
+            public void delivered(Order order) {
+                Long arrivedAt = arrivals.remove(order.getId());
+                if (arrivedAt != null) {
+                    latencies.add(simulationEngine.now(TimeUnit.NANOSECONDS) - arrivedAt);
+                }
+            }
+        });
+
+        long wallStart = System.nanoTime();
+        long simulatedStart = simulationEngine.now(TimeUnit.NANOSECONDS);
+        WorkloadFeeder feeder = new WorkloadFeeder(simulationEngine, workload, entry -> {
+            try {
+                Order order = orderService.createOrder(entry.request());
+                if (order.getState() == OrderState.PENDING) {
+                    arrivals.put(order.getId(), simulationEngine.now(TimeUnit.NANOSECONDS));
+                    accepted.incrementAndGet();
+                } else {
+                    refused.incrementAndGet();
+                }
+            } catch (OrderPayloadException e) {
+                refused.incrementAndGet();
+            } finally {
+                submitted.incrementAndGet();
+            }
+        });
+        feeder.start();
+
+        awaitCompletion(feeder, arrivals, wallStart + TimeUnit.SECONDS.toNanos(timeoutSeconds));
+        feeder.cancel();
+        double wallSeconds = (System.nanoTime() - wallStart) / 1e9;
+        double simulatedSeconds = (simulationEngine.now(TimeUnit.NANOSECONDS) - simulatedStart) / 1e9;
+        deliveryService.onDelivery(DeliveryListener.NONE);
+
+        if (!arrivals.isEmpty()) {
+            log.warn("Simulação em lote encerrada com {} pedidos aceitos ainda não entregues.", arrivals.size());
+        }
+
+        long[] sortedLatencies;
+        synchronized (latencies) {
+            sortedLatencies = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        Timer allocationCycle = meterRegistry.find("simulator.allocation.cycle").timer();
+        HistogramSnapshot cycles = allocationCycle != null ? allocationCycle.takeSnapshot() : HistogramSnapshot.empty(0, 0, 0);
+
+        return new BatchReport(
+            submitted.get(),
+            accepted.get(),
+            refused.get(),
+            sortedLatencies.length,
+            wallSeconds,
+            simulatedSeconds,
+            routeService.findAllRoutes().stream().mapToDouble(RouteResponseDTO::totalDistanceKm).sum(),
+            cycles.count(),
+            cycles.mean(TimeUnit.MILLISECONDS),
+            percentileMillis(cycles, 0.95),
+            cycles.max(TimeUnit.MILLISECONDS),
+            percentileSeconds(sortedLatencies, 0.50),
+            percentileSeconds(sortedLatencies, 0.95),
+            percentileSeconds(sortedLatencies, 0.99),
+            percentileSeconds(sortedLatencies, 1.0));
+    }
+
+    private void addDrones(int count, double payloadKg, double rangeKm) {
+        long nextId = droneRepository.findAll().stream().mapToLong(Drone::getId).max().orElse(0) + 1;
+        for (int i = 0; i < count; i++) {
+            droneRepository.save(new Drone(nextId + i, payloadKg, rangeKm, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        }
+    }
+
+    private void awaitCompletion(WorkloadFeeder feeder, Map<Long, Long> arrivals, long deadline) {
+        try {
+            while (System.nanoTime() < deadline) {
+                if (feeder.isExhausted() && (arrivals.isEmpty() || simulationEngine.isIdle())) {
+                    return;
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+            log.warn("Tempo limite da simulação em lote atingido.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double percentileMillis(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    private static double percentileSeconds(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e9;
+    }
+}
@@ -0,0 +1,72 @@
+package com.dti.drone_delivery_simulator.batch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import com.dti.drone_delivery_simulator.dto.OrderRequestDTO;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+
+public final class BatchWorkload {
+
+    private static final OrderPriority[] PRIORITIES = OrderPriority.values();
+
+    private BatchWorkload() {
+    }
+
+    public static List<WorkloadOrder> load(Path path) {
+        List<WorkloadOrder> workload = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith("arrival_ms")) {
+                    continue;
+                }
+                workload.add(parse(line, lineNumber));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ler a carga de trabalho em " + path, e);
+        }
+        workload.sort(Comparator.comparingLong(WorkloadOrder::arrivalMs));
+        return workload;
+    }
+
+    public static List<WorkloadOrder> uniform(int orders, long seed, int radiusKm, long arrivalIntervalMs) {
+        Random random = new Random(seed);
+        List<WorkloadOrder> workload = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            OrderRequestDTO request = new OrderRequestDTO(
+                random.nextInt(2 * radiusKm + 1) - radiusKm,
+                random.nextInt(2 * radiusKm + 1) - radiusKm,
+                0.5 + random.nextInt(10) * 0.5,
+                PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            workload.add(new WorkloadOrder(i * arrivalIntervalMs, request));
+        }
+        return workload;
+    }
+
+    private static WorkloadOrder parse(String line, int lineNumber) {
+        String[] fields = line.split(",");
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("Linha " + lineNumber + " da carga de trabalho deve ter 5 campos: " + line);
+        }
+        try {
+            return new WorkloadOrder(Long.parseLong(fields[0].strip()), new OrderRequestDTO(
+                Integer.parseInt(fields[1].strip()),
+                Integer.parseInt(fields[2].strip()),
+                Double.parseDouble(fields[3].strip()),
+                OrderPriority.valueOf(fields[4].strip().toUpperCase())));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Linha " + lineNumber + " da carga de trabalho é inválida: " + line, e);
+        }
+    }
+}
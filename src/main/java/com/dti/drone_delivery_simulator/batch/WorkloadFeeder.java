@@ -0,0 +1,59 @@
+package com.dti.drone_delivery_simulator.batch;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+
+public class WorkloadFeeder {
+
+    private final SimulationEngine simulationEngine;
+    private final Iterator<WorkloadOrder> workload;
+    private final Consumer<WorkloadOrder> sink;
+
+    private volatile boolean exhausted;
+    private volatile boolean cancelled;
+
+    public WorkloadFeeder(SimulationEngine simulationEngine, Iterator<WorkloadOrder> workload, Consumer<WorkloadOrder> sink) {
+        this.simulationEngine = simulationEngine;
+        this.workload = workload;
+        this.sink = sink;
+    }
+
+    public void start() {
+        if (!workload.hasNext()) {
+            exhausted = true;
+            return;
+        }
+        WorkloadOrder first = workload.next();
+        simulationEngine.schedule(first.arrivalMs(), TimeUnit.MILLISECONDS, () -> feed(first));
+    }
+
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    public void cancel() {
+        cancelled = true;
+        exhausted = true;
+    }
+
+    private void feed(WorkloadOrder current) {
+        if (cancelled) {
+            exhausted = true;
+            return;
+        }
+        try {
+            sink.accept(current);
+        } finally {
+            if (workload.hasNext()) {
+                WorkloadOrder next = workload.next();
+                simulationEngine.schedule(Math.max(0, next.arrivalMs() - current.arrivalMs()), TimeUnit.MILLISECONDS,
+                    () -> feed(next));
+            } else {
+                exhausted = true;
+            }
+        }
+    }
+}
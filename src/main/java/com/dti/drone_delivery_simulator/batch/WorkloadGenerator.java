@@ -0,0 +1,96 @@
+package com.dti.drone_delivery_simulator.batch;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.dti.drone_delivery_simulator.batch.WorkloadProfile.Hotspot;
+import com.dti.drone_delivery_simulator.dto.OrderRequestDTO;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+
+public class WorkloadGenerator implements Iterator<WorkloadOrder> {
+
+    private static final double MIN_PAYLOAD_KG = 0.1;
+
+    private final WorkloadProfile profile;
+    private final SplittableRandom random;
+    private final double meanGapMs;
+    private final double[] hotspotCumulative;
+    private final OrderPriority[] priorities;
+    private final double[] priorityCumulative;
+
+    private double clockMs;
+
+    public WorkloadGenerator(WorkloadProfile profile, long seed) {
+        this.profile = profile;
+        this.random = new SplittableRandom(seed);
+        this.meanGapMs = 1_000.0 / profile.arrivalsPerSecond();
+
+        this.hotspotCumulative = new double[profile.hotspots().size()];
+        double total = 0;
+        for (int i = 0; i < hotspotCumulative.length; i++) {
+            total += profile.hotspots().get(i).weight();
+            hotspotCumulative[i] = total;
+        }
+
+        this.priorities = new OrderPriority[profile.priorityMix().size()];
+        this.priorityCumulative = new double[priorities.length];
+        int index = 0;
+        double weight = 0;
+        for (Map.Entry<OrderPriority, Double> entry : profile.priorityMix().entrySet()) {
+            weight += entry.getValue();
+            priorities[index] = entry.getKey();
+            priorityCumulative[index++] = weight;
+        }
+    }
+
+    public static Stream<WorkloadOrder> stream(WorkloadProfile profile, long seed) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new WorkloadGenerator(profile, seed),
+            Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return true;
+    }
+
+    @Override
+    public WorkloadOrder next() {
+        clockMs += random.nextExponential() * meanGapMs;
+
+        int x;
+        int y;
+        if (hotspotCumulative.length > 0 && random.nextDouble() < profile.hotspotShare()) {
+            Hotspot hotspot = profile.hotspots().get(pick(hotspotCumulative));
+            x = clamp(Math.round(hotspot.x() + random.nextGaussian() * hotspot.sigmaKm()));
+            y = clamp(Math.round(hotspot.y() + random.nextGaussian() * hotspot.sigmaKm()));
+        } else {
+            x = random.nextInt(-profile.radiusKm(), profile.radiusKm() + 1);
+            y = random.nextInt(-profile.radiusKm(), profile.radiusKm() + 1);
+        }
+
+        double payload = profile.payloadMedianKg() * Math.exp(random.nextGaussian() * profile.payloadSigma());
+        payload = Math.round(Math.min(profile.payloadMaxKg(), Math.max(MIN_PAYLOAD_KG, payload)) * 10) / 10.0;
+
+        OrderPriority priority = priorities[pick(priorityCumulative)];
+        return new WorkloadOrder((long) clockMs, new OrderRequestDTO(x, y, payload, priority));
+    }
+
+    private int pick(double[] cumulative) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (target < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    private int clamp(long coordinate) {
+        return (int) Math.max(-profile.radiusKm(), Math.min(profile.radiusKm(), coordinate));
+    }
+}
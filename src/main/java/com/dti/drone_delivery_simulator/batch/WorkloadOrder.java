@@ -0,0 +1,7 @@
+package com.dti.drone_delivery_simulator.batch;
+
+import com.dti.drone_delivery_simulator.dto.OrderRequestDTO;
+
+public record WorkloadOrder(long arrivalMs, OrderRequestDTO request) {
+
+}
@@ -0,0 +1,55 @@
+package com.dti.drone_delivery_simulator.batch;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+
+public record WorkloadProfile(
+    double arrivalsPerSecond,
+    int radiusKm,
+    List<Hotspot> hotspots,
+    double hotspotShare,
+    double payloadMedianKg,
+    double payloadSigma,
+    double payloadMaxKg,
+    Map<OrderPriority, Double> priorityMix
+) {
+
+    public record Hotspot(int x, int y, double sigmaKm, double weight) {
+    }
+
+    public static final WorkloadProfile DEFAULT = new WorkloadProfile(
+        2.0,
+        8,
+        List.of(new Hotspot(4, 3, 1.5, 2.0), new Hotspot(-5, -2, 1.0, 1.0)),
+        0.6,
+        1.5,
+        0.6,
+        8.0,
+        Map.of(OrderPriority.HIGH, 0.2, OrderPriority.MEDIUM, 0.3, OrderPriority.LOW, 0.5));
+
+    public WorkloadProfile {
+        if (!(arrivalsPerSecond > 0)) {
+            throw new IllegalArgumentException("Taxa de chegada deve ser maior que zero.");
+        }
+        if (radiusKm < 0 || hotspotShare < 0 || hotspotShare > 1) {
+            throw new IllegalArgumentException("Raio e fração de hotspots devem ser válidos.");
+        }
+        if (!(payloadMedianKg > 0) || payloadSigma < 0 || payloadMaxKg < payloadMedianKg) {
+            throw new IllegalArgumentException("Distribuição de carga inválida.");
+        }
+        if (priorityMix.isEmpty() || priorityMix.values().stream().anyMatch(weight -> weight < 0)) {
+            throw new IllegalArgumentException("Mistura de prioridades inválida.");
+        }
+        hotspots = List.copyOf(hotspots);
+        priorityMix = Collections.unmodifiableMap(new EnumMap<>(priorityMix));
+    }
+
+    public WorkloadProfile withArrivalsPerSecond(double rate) {
+        return new WorkloadProfile(rate, radiusKm, hotspots, hotspotShare, payloadMedianKg, payloadSigma,
+            payloadMaxKg, priorityMix);
+    }
+}
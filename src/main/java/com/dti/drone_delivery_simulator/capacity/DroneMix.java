@@ -0,0 +1,40 @@
+package com.dti.drone_delivery_simulator.capacity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record DroneMix(String label, List<DroneType> types, int totalWeight) {
+
+    public record DroneType(double payloadKg, double rangeKm, int weight) {
+    }
+
+    public static DroneMix parse(String spec) {
+        List<DroneType> types = new ArrayList<>();
+        int totalWeight = 0;
+        for (String part : spec.strip().split("\\+")) {
+            String[] weighted = part.strip().split(":");
+            String[] capacity = weighted[0].strip().split("x");
+            if (capacity.length != 2 || weighted.length > 2) {
+                throw new IllegalArgumentException("Tipo de drone inválido (esperado cargaxalcance[:peso]): " + part);
+            }
+            int weight = weighted.length == 2 ? Integer.parseInt(weighted[1].strip()) : 1;
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Peso do tipo de drone deve ser maior que zero: " + part);
+            }
+            types.add(new DroneType(Double.parseDouble(capacity[0]), Double.parseDouble(capacity[1]), weight));
+            totalWeight += weight;
+        }
+        return new DroneMix(spec.strip(), List.copyOf(types), totalWeight);
+    }
+
+    public DroneType droneAt(int index) {
+        int position = index % totalWeight;
+        for (DroneType type : types) {
+            position -= type.weight();
+            if (position < 0) {
+                return type;
+            }
+        }
+        return types.get(types.size() - 1);
+    }
+}
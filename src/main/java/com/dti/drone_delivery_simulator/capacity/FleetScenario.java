@@ -0,0 +1,5 @@
+package com.dti.drone_delivery_simulator.capacity;
+
+public record FleetScenario(int fleetSize, DroneMix mix, long arrivalIntervalMs) {
+
+}
@@ -0,0 +1,134 @@
+package com.dti.drone_delivery_simulator.capacity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.dti.drone_delivery_simulator.allocation.AllocationStrategyConfig;
+import com.dti.drone_delivery_simulator.allocation.PartitionedAllocator;
+import com.dti.drone_delivery_simulator.batch.WorkloadFeeder;
+import com.dti.drone_delivery_simulator.batch.WorkloadOrder;
+import com.dti.drone_delivery_simulator.capacity.DroneMix.DroneType;
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.dispatch.DispatchTrigger;
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.journal.EventJournal;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryRouteRepository;
+import com.dti.drone_delivery_simulator.retention.RetentionArchive;
+import com.dti.drone_delivery_simulator.retention.RetentionService;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.ExactRouteSolver;
+import com.dti.drone_delivery_simulator.routing.RouteImprover;
+import com.dti.drone_delivery_simulator.service.DeliveryListener;
+import com.dti.drone_delivery_simulator.service.DeliveryService;
+import com.dti.drone_delivery_simulator.service.DroneService;
+import com.dti.drone_delivery_simulator.service.OrderAllocationService;
+import com.dti.drone_delivery_simulator.service.OrderService;
+import com.dti.drone_delivery_simulator.service.RouteService;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+import com.dti.drone_delivery_simulator.simulation.VirtualClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class FleetSimulation implements DeliveryListener {
+
+    private static final long DISPATCH_DEBOUNCE_MS = 20;
+    private static final long DISPATCH_WINDOW_MS = 200;
+    private static final long AGING_MS = 30_000;
+
+    private final FleetScenario scenario;
+    private final SimulationEngine simulationEngine = new SimulationEngine(new VirtualClock(), false);
+    private final OrderService orderService;
+
+    private final Map<Long, Long> arrivals = new HashMap<>();
+    private final List<Long> latencies = new ArrayList<>();
+    private long accepted;
+    private long busyNanos;
+
+    public FleetSimulation(FleetScenario scenario, String strategy, int savingsWindow) {
+        this.scenario = scenario;
+
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        InMemoryDroneRepository droneRepository = new InMemoryDroneRepository();
+        InMemoryRouteRepository routeRepository = new InMemoryRouteRepository();
+        RetentionArchive retentionArchive = new RetentionArchive();
+        DistanceMatrix distanceMatrix = new DistanceMatrix(0);
+        RouteService routeService = new RouteService(routeRepository, retentionArchive,
+            new RouteImprover(1_000, RouteImprover.NO_TIME_BUDGET, distanceMatrix), new ExactRouteSolver(10, 256, distanceMatrix));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DispatchQueue dispatchQueue = new DispatchQueue(meterRegistry, AGING_MS,
+            () -> simulationEngine.now(TimeUnit.NANOSECONDS));
+        DispatchTrigger dispatchTrigger = new DispatchTrigger(simulationEngine, DISPATCH_DEBOUNCE_MS, DISPATCH_WINDOW_MS);
+
+        for (int i = 0; i < scenario.fleetSize(); i++) {
+            DroneType type = scenario.mix().droneAt(i);
+            droneRepository.save(new Drone(i + 1L, type.payloadKg(), type.rangeKm(), DroneState.IDLE, 0, 0, new ArrayList<>()));
+        }
+
+        this.orderService = new OrderService(orderRepository, new DroneService(droneRepository), routeService,
+            retentionArchive, dispatchQueue, dispatchTrigger, distanceMatrix);
+        OrderAllocationService allocationService = new OrderAllocationService(orderRepository, droneRepository,
+            dispatchQueue, new PartitionedAllocator(false, 1, 0),
+            new AllocationStrategyConfig().allocationStrategy(strategy, savingsWindow, distanceMatrix));
+        RetentionService retentionService = new RetentionService(orderRepository, routeRepository, routeService,
+            retentionArchive, EventJournal.NONE, simulationEngine, false, 0);
+        DeliveryService deliveryService = new DeliveryService(droneRepository, orderRepository, routeService,
+            retentionService, allocationService, dispatchTrigger, distanceMatrix, simulationEngine, meterRegistry);
+        deliveryService.registerDispatch();
+        deliveryService.onDelivery(this);
+    }
+
+    public ScenarioOutcome run(Iterator<WorkloadOrder> workload, long seed) {
+        new WorkloadFeeder(simulationEngine, workload, this::submit).start();
+        simulationEngine.runUntilIdle();
+
+        long simulatedNanos = simulationEngine.now(TimeUnit.NANOSECONDS);
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new ScenarioOutcome(
+            scenario,
+            seed,
+            accepted,
+            sorted.length,
+            percentileSeconds(sorted, 0.50),
+            percentileSeconds(sorted, 0.95),
+            simulatedNanos > 0 ? (double) busyNanos / ((double) simulatedNanos * scenario.fleetSize()) : 0,
+            simulatedNanos / 1e9);
+    }
+
+    @Override
+    public void delivered(Order order) {
+        Long arrivedAt = arrivals.remove(order.getId());
+        if (arrivedAt != null) {
+            latencies.add(simulationEngine.now(TimeUnit.NANOSECONDS) - arrivedAt);
+        }
+    }
+
+    @Override
+    public void landed(Long droneId, long flightNanos) {
+        busyNanos += flightNanos;
+    }
+
+    private void submit(WorkloadOrder entry) {
+        Order order = orderService.createOrder(entry.request());
+        if (order.getState() == OrderState.PENDING) {
+            arrivals.put(order.getId(), simulationEngine.now(TimeUnit.NANOSECONDS));
+            accepted++;
+        }
+    }
+
+    private static double percentileSeconds(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e9;
+    }
+}
@@ -0,0 +1,38 @@
+package com.dti.drone_delivery_simulator.capacity;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.core.env.Environment;
+
+import com.dti.drone_delivery_simulator.batch.WorkloadProfile;
+
+public record FleetSizingOptions(
+    int[] fleetSizes,
+    List<DroneMix> mixes,
+    long[] arrivalIntervalsMs,
+    int replications,
+    int orders,
+    long seed,
+    WorkloadProfile profile,
+    int parallelism,
+    String strategy,
+    int savingsWindow
+) {
+
+    public static FleetSizingOptions from(Environment environment) {
+        return new FleetSizingOptions(
+            environment.getProperty("simulator.fleet-sizing.fleet-sizes", int[].class, new int[] { 2, 4, 8, 16 }),
+            Arrays.stream(environment.getProperty("simulator.fleet-sizing.drone-mixes", "10x25;15x30;10x25+15x30").split(";"))
+                .map(DroneMix::parse)
+                .toList(),
+            environment.getProperty("simulator.fleet-sizing.arrival-intervals-ms", long[].class, new long[] { 250, 1_000 }),
+            environment.getProperty("simulator.fleet-sizing.replications", Integer.class, 8),
+            environment.getProperty("simulator.fleet-sizing.orders", Integer.class, 1_000),
+            environment.getProperty("simulator.fleet-sizing.seed", Long.class, 42L),
+            WorkloadProfile.DEFAULT,
+            environment.getProperty("simulator.fleet-sizing.parallelism", Integer.class, 0),
+            environment.getProperty("simulator.allocation.strategy", "first-fit"),
+            environment.getProperty("simulator.allocation.savings.window", Integer.class, 512));
+    }
+}
@@ -0,0 +1,25 @@
+package com.dti.drone_delivery_simulator.capacity;
+
+import java.io.PrintStream;
+import java.util.List;
+
+public record FleetSizingReport(List<ScenarioSummary> summaries, int simulations, double wallSeconds) {
+
+    public void print(PrintStream out) {
+        out.printf("%d simulações em %.2f s%n", simulations, wallSeconds);
+        out.printf("%-24s %10s %6s %9s %9s %17s %11s%n",
+            "mix", "intervalo", "frota", "entregues", "p50 (s)", "p95 (s)", "utilização");
+        for (ScenarioSummary summary : summaries) {
+            FleetScenario scenario = summary.scenario();
+            out.printf("%-24s %8d ms %6d %8.1f%% %9.0f %9.0f ± %5.0f %10.1f%%%n",
+                scenario.mix().label(),
+                scenario.arrivalIntervalMs(),
+                scenario.fleetSize(),
+                summary.deliveredRatio() * 100,
+                summary.latencyP50Seconds(),
+                summary.latencyP95Seconds(),
+                summary.latencyP95StdDevSeconds(),
+                summary.utilization() * 100);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.dti.drone_delivery_simulator.capacity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.dti.drone_delivery_simulator.batch.WorkloadGenerator;
+import com.dti.drone_delivery_simulator.batch.WorkloadProfile;
+
+public class MonteCarloFleetSizer {
+
+    private final FleetSizingOptions options;
+
+    public MonteCarloFleetSizer(FleetSizingOptions options) {
+        if (options.replications() <= 0) {
+            throw new IllegalArgumentException("Número de replicações deve ser maior que zero.");
+        }
+        this.options = options;
+    }
+
+    public FleetSizingReport run() {
+        List<FleetScenario> scenarios = new ArrayList<>();
+        for (DroneMix mix : options.mixes()) {
+            for (long arrivalIntervalMs : options.arrivalIntervalsMs()) {
+                for (int fleetSize : options.fleetSizes()) {
+                    scenarios.add(new FleetScenario(fleetSize, mix, arrivalIntervalMs));
+                }
+            }
+        }
+
+        int parallelism = options.parallelism() > 0 ? options.parallelism() : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            List<List<ForkJoinTask<ScenarioOutcome>>> tasks = new ArrayList<>(scenarios.size());
+            for (FleetScenario scenario : scenarios) {
+                List<ForkJoinTask<ScenarioOutcome>> replications = new ArrayList<>(options.replications());
+                for (int replication = 0; replication < options.replications(); replication++) {
+                    long seed = options.seed() + replication;
+                    replications.add(pool.submit(() -> simulate(scenario, seed)));
+                }
+                tasks.add(replications);
+            }
+
+            List<ScenarioSummary> summaries = new ArrayList<>(scenarios.size());
+            for (int i = 0; i < scenarios.size(); i++) {
+                summaries.add(ScenarioSummary.of(scenarios.get(i), tasks.get(i).stream().map(ForkJoinTask::join).toList()));
+            }
+            return new FleetSizingReport(summaries, scenarios.size() * options.replications(),
+                (System.nanoTime() - start) / 1e9);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private ScenarioOutcome simulate(FleetScenario scenario, long seed) {
+        WorkloadProfile profile = options.profile().withArrivalsPerSecond(1_000.0 / scenario.arrivalIntervalMs());
+        return new FleetSimulation(scenario, options.strategy(), options.savingsWindow())
+            .run(WorkloadGenerator.stream(profile, seed).limit(options.orders()).iterator(), seed);
+    }
+}
@@ -0,0 +1,14 @@
+package com.dti.drone_delivery_simulator.capacity;
+
+public record ScenarioOutcome(
+    FleetScenario scenario,
+    long seed,
+    long accepted,
+    long delivered,
+    double latencyP50Seconds,
+    double latencyP95Seconds,
+    double utilization,
+    double simulatedSeconds
+) {
+
+}
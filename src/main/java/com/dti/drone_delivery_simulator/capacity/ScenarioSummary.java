@@ -0,0 +1,33 @@
+package com.dti.drone_delivery_simulator.capacity;
+
+import java.util.List;
+
+public record ScenarioSummary(
+    FleetScenario scenario,
+    int replications,
+    double deliveredRatio,
+    double latencyP50Seconds,
+    double latencyP95Seconds,
+    double latencyP95StdDevSeconds,
+    double utilization
+) {
+
+    public static ScenarioSummary of(FleetScenario scenario, List<ScenarioOutcome> outcomes) {
+        int replications = outcomes.size();
+        long accepted = outcomes.stream().mapToLong(ScenarioOutcome::accepted).sum();
+        long delivered = outcomes.stream().mapToLong(ScenarioOutcome::delivered).sum();
+        double p95 = outcomes.stream().mapToDouble(ScenarioOutcome::latencyP95Seconds).average().orElse(0);
+        double variance = outcomes.stream()
+            .mapToDouble(outcome -> Math.pow(outcome.latencyP95Seconds() - p95, 2))
+            .sum() / Math.max(1, replications - 1);
+
+        return new ScenarioSummary(
+            scenario,
+            replications,
+            accepted > 0 ? (double) delivered / accepted : 0,
+            outcomes.stream().mapToDouble(ScenarioOutcome::latencyP50Seconds).average().orElse(0),
+            p95,
+            Math.sqrt(variance),
+            outcomes.stream().mapToDouble(ScenarioOutcome::utilization).average().orElse(0));
+    }
+}
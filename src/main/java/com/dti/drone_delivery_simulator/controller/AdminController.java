@@ -0,0 +1,40 @@
+package com.dti.drone_delivery_simulator.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dti.drone_delivery_simulator.dto.WorkloadRequestDTO;
+import com.dti.drone_delivery_simulator.dto.WorkloadStatusDTO;
+import com.dti.drone_delivery_simulator.service.WorkloadService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final WorkloadService workloadService;
+
+    @PostMapping("/workload")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public WorkloadStatusDTO startWorkload(@RequestBody WorkloadRequestDTO request) {
+        return this.workloadService.start(request);
+    }
+
+    @GetMapping("/workload")
+    public WorkloadStatusDTO getWorkloadStatus() {
+        return this.workloadService.status();
+    }
+
+    @DeleteMapping("/workload")
+    public WorkloadStatusDTO stopWorkload() {
+        return this.workloadService.stop();
+    }
+}
@@ -4,10 +4,13 @@ import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.dti.drone_delivery_simulator.dto.RouteResponseDTO;
+import com.dti.drone_delivery_simulator.enums.RouteStatus;
 import com.dti.drone_delivery_simulator.service.RouteService;
 
 import lombok.RequiredArgsConstructor;
@@ -20,7 +23,22 @@ public class RouteController {
     private final RouteService routeService;
 
     @GetMapping("/rota")
-    public ResponseEntity<List<RouteResponseDTO>> getAllRoutes() {
-        return ResponseEntity.ok(routeService.findAllRoutes());
+    public ResponseEntity<List<RouteResponseDTO>> getAllRoutes(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            return ResponseEntity.ok(routeService.findAllRoutes());
+        }
+        return ResponseEntity.ok(routeService.findRoutesPage(after, limit != null ? limit : 50));
+    }
+
+    @GetMapping("/rota/status/{status}")
+    public ResponseEntity<List<RouteResponseDTO>> getRoutesByStatus(@PathVariable RouteStatus status) {
+        return ResponseEntity.ok(routeService.findRoutesByStatus(status));
+    }
+
+    @GetMapping("/rota/drone/{droneId}")
+    public ResponseEntity<List<RouteResponseDTO>> getRoutesByDrone(@PathVariable Long droneId) {
+        return ResponseEntity.ok(routeService.findRoutesByDrone(droneId));
     }
 }
@@ -0,0 +1,173 @@
+package com.dti.drone_delivery_simulator.dispatch;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class DispatchQueue {
+
+    private static final OrderPriority[] PRIORITIES = OrderPriority.values();
+    private static final int HIGHEST_RANK = PRIORITIES.length - 1;
+
+    private final Map<OrderPriority, ConcurrentLinkedQueue<Entry>> buckets = new EnumMap<>(OrderPriority.class);
+    private final Map<OrderPriority, Timer> waitTimers = new EnumMap<>(OrderPriority.class);
+    private final Map<OrderPriority, AtomicInteger> sizes = new EnumMap<>(OrderPriority.class);
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final long agingNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public DispatchQueue(MeterRegistry meterRegistry, @Value("${simulator.dispatch.aging-ms:30000}") long agingMs) {
+        this(meterRegistry, agingMs, System::nanoTime);
+    }
+
+    public DispatchQueue(MeterRegistry meterRegistry, long agingMs, LongSupplier nanoClock) {
+        if (agingMs <= 0) {
+            throw new IllegalArgumentException("Intervalo de envelhecimento deve ser maior que zero.");
+        }
+        this.agingNanos = TimeUnit.MILLISECONDS.toNanos(agingMs);
+        this.nanoClock = nanoClock;
+
+        for (OrderPriority priority : PRIORITIES) {
+            buckets.put(priority, new ConcurrentLinkedQueue<>());
+            sizes.put(priority, new AtomicInteger());
+            waitTimers.put(priority, Timer.builder("simulator.dispatch.wait")
+                .description("Tempo entre a entrada do pedido na fila e sua alocação a um drone")
+                .tag("priority", priority.name())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+            Gauge.builder("simulator.dispatch.queue.size", this, queue -> queue.size(priority))
+                .tag("priority", priority.name())
+                .register(meterRegistry);
+        }
+    }
+
+    public void enqueue(Order order) {
+        entries.computeIfAbsent(order.getId(), id -> {
+            Entry entry = new Entry(order, bucketOf(order), nanoClock.getAsLong());
+            buckets.get(entry.priority).add(entry);
+            sizes.get(entry.priority).incrementAndGet();
+            return entry;
+        });
+    }
+
+    public void enqueueAll(List<Order> orders) {
+        orders.forEach(this::enqueue);
+    }
+
+    public List<Order> inDispatchOrder() {
+        long now = nanoClock.getAsLong();
+        List<Iterator<Entry>> cursors = new ArrayList<>(PRIORITIES.length);
+        Entry[] heads = new Entry[PRIORITIES.length];
+
+        for (OrderPriority priority : PRIORITIES) {
+            Iterator<Entry> cursor = buckets.get(priority).iterator();
+            cursors.add(cursor);
+            heads[priority.ordinal()] = nextLive(cursor);
+        }
+
+        List<Order> ordered = new ArrayList<>(entries.size());
+        while (true) {
+            int best = -1;
+            for (int i = 0; i < heads.length; i++) {
+                if (heads[i] != null && (best < 0 || precedes(heads[i], heads[best], now))) {
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                return ordered;
+            }
+            ordered.add(heads[best].order);
+            heads[best] = nextLive(cursors.get(best));
+        }
+    }
+
+    public void markDispatched(Order order) {
+        Entry entry = entries.get(order.getId());
+        if (entry != null && release(entry)) {
+            waitTimers.get(entry.priority).record(nanoClock.getAsLong() - entry.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int size(OrderPriority priority) {
+        return sizes.get(priority).get();
+    }
+
+    private boolean release(Entry entry) {
+        if (entries.remove(entry.order.getId(), entry)) {
+            sizes.get(entry.priority).decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private Entry nextLive(Iterator<Entry> cursor) {
+        while (cursor.hasNext()) {
+            Entry entry = cursor.next();
+            if (entries.get(entry.order.getId()) != entry) {
+                cursor.remove();
+                continue;
+            }
+            if (entry.order.getState() == OrderState.PENDING) {
+                return entry;
+            }
+            release(entry);
+            cursor.remove();
+        }
+        return null;
+    }
+
+    private boolean precedes(Entry candidate, Entry current, long now) {
+        int candidateRank = rank(candidate, now);
+        int currentRank = rank(current, now);
+        if (candidateRank != currentRank) {
+            return candidateRank > currentRank;
+        }
+        return candidate.enqueuedAt < current.enqueuedAt;
+    }
+
+    private int rank(Entry entry, long now) {
+        long promotions = (now - entry.enqueuedAt) / agingNanos;
+        return (int) Math.min(HIGHEST_RANK, entry.priority.ordinal() + promotions);
+    }
+
+    private static OrderPriority bucketOf(Order order) {
+        return order.getPriority() == null ? OrderPriority.LOW : order.getPriority();
+    }
+
+    private static final class Entry {
+        private final Order order;
+        private final OrderPriority priority;
+        private final long enqueuedAt;
+
+        private Entry(Order order, OrderPriority priority, long enqueuedAt) {
+            this.order = order;
+            this.priority = priority;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.dti.drone_delivery_simulator.dispatch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+
+@Component
+public class DispatchTrigger {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchTrigger.class);
+    private static final long NONE = -1;
+
+    private final long debounceNanos;
+    private final long maxBatchWindowNanos;
+    private final SimulationEngine simulationEngine;
+
+    private Runnable action = () -> { };
+    private long firstSignal = NONE;
+    private long lastSignal;
+
+    public DispatchTrigger(
+            SimulationEngine simulationEngine,
+            @Value("${simulator.dispatch.debounce-ms:20}") long debounceMs,
+            @Value("${simulator.dispatch.max-batch-window-ms:200}") long maxBatchWindowMs) {
+        if (debounceMs < 0 || maxBatchWindowMs < debounceMs) {
+            throw new IllegalArgumentException("Janela de micro-lote deve ser maior ou igual ao debounce.");
+        }
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMs);
+        this.maxBatchWindowNanos = TimeUnit.MILLISECONDS.toNanos(maxBatchWindowMs);
+        this.simulationEngine = simulationEngine;
+    }
+
+    public void onDispatch(Runnable action) {
+        this.action = action;
+    }
+
+    public void signal() {
+        long now = simulationEngine.now(TimeUnit.NANOSECONDS);
+        synchronized (this) {
+            lastSignal = now;
+            if (firstSignal != NONE) {
+                return;
+            }
+            firstSignal = now;
+        }
+        simulationEngine.schedule(debounceNanos, TimeUnit.NANOSECONDS, this::fire);
+    }
+
+    private void fire() {
+        long now = simulationEngine.now(TimeUnit.NANOSECONDS);
+        synchronized (this) {
+            long deadline = Math.min(lastSignal + debounceNanos, firstSignal + maxBatchWindowNanos);
+            if (now < deadline) {
+                simulationEngine.schedule(deadline - now, TimeUnit.NANOSECONDS, this::fire);
+                return;
+            }
+            firstSignal = NONE;
+        }
+
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.error("Erro ao despachar pedidos: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.dti.drone_delivery_simulator.dto;
+
+public record WorkloadRequestDTO(long orders, long seed, Double arrivalsPerSecond) {
+
+}
@@ -0,0 +1,13 @@
+package com.dti.drone_delivery_simulator.dto;
+
+public record WorkloadStatusDTO(
+    boolean running,
+    long requested,
+    long submitted,
+    long accepted,
+    long refused,
+    long seed,
+    double arrivalsPerSecond
+) {
+
+}
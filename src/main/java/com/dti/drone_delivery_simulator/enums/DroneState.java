@@ -16,4 +16,8 @@ public enum DroneState {
             case RETURNING -> IDLE;
         };
     }
+
+    public boolean canTransitionTo(DroneState target) {
+        return target == next() || (this == DELIVERING && target == IN_FLIGHT);
+    }
 }
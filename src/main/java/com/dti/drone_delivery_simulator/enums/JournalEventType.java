@@ -0,0 +1,14 @@
+package com.dti.drone_delivery_simulator.enums;
+
+public enum JournalEventType {
+    ORDER_SAVED,
+    ORDER_STATE_CHANGED,
+    DRONE_SAVED,
+    DRONE_STATE_CHANGED,
+    DRONE_ORDER_ADDED,
+    DRONE_ORDER_REMOVED,
+    ROUTE_SAVED,
+    ROUTE_STATUS_CHANGED,
+    ORDER_ARCHIVED,
+    ROUTE_ARCHIVED
+}
@@ -0,0 +1,11 @@
+package com.dti.drone_delivery_simulator.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidWorkloadRequestException extends RuntimeException {
+    public InvalidWorkloadRequestException(String message) {
+        super(message);
+    }
+}
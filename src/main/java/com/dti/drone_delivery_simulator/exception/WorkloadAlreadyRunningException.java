@@ -0,0 +1,11 @@
+package com.dti.drone_delivery_simulator.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class WorkloadAlreadyRunningException extends RuntimeException {
+    public WorkloadAlreadyRunningException(String message) {
+        super(message);
+    }
+}
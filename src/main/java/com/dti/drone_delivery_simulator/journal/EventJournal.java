@@ -0,0 +1,44 @@
+package com.dti.drone_delivery_simulator.journal;
+
+import java.util.function.Consumer;
+
+public interface EventJournal {
+
+    EventJournal NONE = new EventJournal() {
+        @Override
+        public void append(JournalEvent event) {
+        }
+
+        @Override
+        public JournalPosition position() {
+            return JournalPosition.START;
+        }
+
+        @Override
+        public void replay(JournalPosition from, Consumer<JournalEvent> consumer) {
+        }
+
+        @Override
+        public void withoutJournaling(Runnable action) {
+            action.run();
+        }
+
+        @Override
+        public void truncateBefore(JournalPosition position) {
+        }
+    };
+
+    void append(JournalEvent event);
+
+    JournalPosition position();
+
+    void replay(JournalPosition from, Consumer<JournalEvent> consumer);
+
+    void withoutJournaling(Runnable action);
+
+    void truncateBefore(JournalPosition position);
+
+    default void replay(Consumer<JournalEvent> consumer) {
+        replay(JournalPosition.START, consumer);
+    }
+}
@@ -0,0 +1,89 @@
+package com.dti.drone_delivery_simulator.journal;
+
+import java.util.List;
+
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.JournalEventType;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.enums.RouteStatus;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.model.Route;
+
+public record JournalEvent(
+    JournalEventType type,
+    long id,
+    long refId,
+    int x,
+    int y,
+    double weight,
+    double distance,
+    int code,
+    int priority,
+    long[] refIds
+) {
+
+    public static final int NONE = -1;
+
+    private static final long[] NO_REFS = new long[0];
+
+    public static JournalEvent orderSaved(Order order) {
+        return new JournalEvent(JournalEventType.ORDER_SAVED, order.getId(), 0,
+            order.getClientPositionX(), order.getClientPositionY(), order.getPayloadKg(), 0,
+            ordinal(order.getState()), ordinal(order.getPriority()), NO_REFS);
+    }
+
+    public static JournalEvent orderStateChanged(Long orderId, OrderState state) {
+        return new JournalEvent(JournalEventType.ORDER_STATE_CHANGED, orderId, 0, 0, 0, 0, 0,
+            ordinal(state), NONE, NO_REFS);
+    }
+
+    public static JournalEvent droneSaved(Drone drone) {
+        return new JournalEvent(JournalEventType.DRONE_SAVED, drone.getId(), 0,
+            drone.getPositionX(), drone.getPositionY(), drone.getMaxPayloadKg(), drone.getMaxRangeKm(),
+            ordinal(drone.getStatus()), NONE, NO_REFS);
+    }
+
+    public static JournalEvent droneStateChanged(Long droneId, DroneState state) {
+        return new JournalEvent(JournalEventType.DRONE_STATE_CHANGED, droneId, 0, 0, 0, 0, 0,
+            ordinal(state), NONE, NO_REFS);
+    }
+
+    public static JournalEvent droneOrderAdded(Long droneId, Long orderId) {
+        return new JournalEvent(JournalEventType.DRONE_ORDER_ADDED, droneId, orderId, 0, 0, 0, 0,
+            NONE, NONE, NO_REFS);
+    }
+
+    public static JournalEvent droneOrderRemoved(Long droneId, Long orderId) {
+        return new JournalEvent(JournalEventType.DRONE_ORDER_REMOVED, droneId, orderId, 0, 0, 0, 0,
+            NONE, NONE, NO_REFS);
+    }
+
+    public static JournalEvent routeSaved(Route route) {
+        List<Order> orders = route.getOrders() == null ? List.of() : route.getOrders();
+        long[] orderIds = orders.stream().mapToLong(Order::getId).toArray();
+        long droneId = route.getDrone() == null ? 0 : route.getDrone().getId();
+
+        return new JournalEvent(JournalEventType.ROUTE_SAVED, route.getId(), droneId, 0, 0, 0,
+            route.getTotalDistanceKm(), ordinal(route.getStatus()), NONE, orderIds);
+    }
+
+    public static JournalEvent routeStatusChanged(Long routeId, RouteStatus status) {
+        return new JournalEvent(JournalEventType.ROUTE_STATUS_CHANGED, routeId, 0, 0, 0, 0, 0,
+            ordinal(status), NONE, NO_REFS);
+    }
+
+    public static JournalEvent orderArchived(Long orderId) {
+        return new JournalEvent(JournalEventType.ORDER_ARCHIVED, orderId, 0, 0, 0, 0, 0,
+            NONE, NONE, NO_REFS);
+    }
+
+    public static JournalEvent routeArchived(Long routeId) {
+        return new JournalEvent(JournalEventType.ROUTE_ARCHIVED, routeId, 0, 0, 0, 0, 0,
+            NONE, NONE, NO_REFS);
+    }
+
+    private static int ordinal(Enum<?> value) {
+        return value == null ? NONE : value.ordinal();
+    }
+}
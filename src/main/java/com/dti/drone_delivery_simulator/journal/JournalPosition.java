@@ -0,0 +1,6 @@
+package com.dti.drone_delivery_simulator.journal;
+
+public record JournalPosition(long segment, int offset) {
+
+    public static final JournalPosition START = new JournalPosition(0, 0);
+}
@@ -0,0 +1,143 @@
+package com.dti.drone_delivery_simulator.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.enums.RouteStatus;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.model.Route;
+import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryRouteRepository;
+import com.dti.drone_delivery_simulator.repository.OrderRepository;
+import com.dti.drone_delivery_simulator.retention.RetentionService;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.service.OrderService;
+import com.dti.drone_delivery_simulator.snapshot.SnapshotHeader;
+import com.dti.drone_delivery_simulator.snapshot.SnapshotService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class JournalRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalRecovery.class);
+
+    private final EventJournal journal;
+    private final OrderRepository orderRepository;
+    private final InMemoryDroneRepository droneRepository;
+    private final InMemoryRouteRepository routeRepository;
+    private final OrderService orderService;
+    private final SnapshotService snapshotService;
+    private final RetentionService retentionService;
+    private final DispatchQueue dispatchQueue;
+    private final DistanceMatrix distanceMatrix;
+    private final MeterRegistry meterRegistry;
+
+    private long replayedEvents;
+    private long lastOrderId;
+
+    @PostConstruct
+    public void recover() {
+        long start = System.nanoTime();
+
+        Optional<SnapshotHeader> snapshot = snapshotService.loadLatest(this::apply);
+        long snapshotEvents = replayedEvents;
+        journal.replay(snapshot.map(SnapshotHeader::position).orElse(JournalPosition.START), this::apply);
+
+        if (replayedEvents > 0) {
+            orderService.resumeIdsAfter(lastOrderId);
+            snapshot.ifPresent(header -> {
+                orderService.resumeIdsAfter(header.nextOrderId() - 1);
+                routeRepository.resumeIdsAfter(header.nextRouteId() - 1);
+            });
+            int resetDrones = resetInterruptedDeliveries();
+
+            log.info("Estado recuperado em {} ms: {} registros do snapshot, {} eventos do journal, {} drones reiniciados.",
+                (System.nanoTime() - start) / 1_000_000, snapshotEvents, replayedEvents - snapshotEvents, resetDrones);
+        }
+
+        List<Order> pendingOrders = orderRepository.findPendingOrders();
+        pendingOrders.forEach(distanceMatrix::register);
+        dispatchQueue.enqueueAll(pendingOrders);
+        meterRegistry.timer("simulator.recovery.duration").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    void apply(JournalEvent event) {
+        replayedEvents++;
+
+        switch (event.type()) {
+            case ORDER_SAVED -> {
+                lastOrderId = Math.max(lastOrderId, event.id());
+                orderRepository.save(new Order(event.id(), event.x(), event.y(), event.weight(),
+                    decode(OrderPriority.values(), event.priority()), decode(OrderState.values(), event.code())));
+            }
+            case ORDER_STATE_CHANGED -> orderRepository.findById(event.id()).ifPresent(order -> {
+                order.setState(decode(OrderState.values(), event.code()));
+                orderRepository.update(order);
+            });
+            case DRONE_SAVED -> droneRepository.save(new Drone(event.id(), event.weight(), event.distance(),
+                decode(DroneState.values(), event.code()), event.x(), event.y(), new ArrayList<>()));
+            case DRONE_STATE_CHANGED -> droneRepository.findById(event.id()).ifPresent(drone ->
+                droneRepository.updateState(drone.getId(), decode(DroneState.values(), event.code())));
+            case DRONE_ORDER_ADDED -> droneRepository.findById(event.id()).ifPresent(drone ->
+                orderRepository.findById(event.refId()).ifPresent(order ->
+                    droneRepository.restoreOrder(drone.getId(), order)));
+            case DRONE_ORDER_REMOVED -> droneRepository.findById(event.id()).ifPresent(drone ->
+                droneRepository.discardOrder(drone.getId(), event.refId()));
+            case ROUTE_SAVED -> {
+                List<Order> orders = new ArrayList<>(event.refIds().length);
+                for (long orderId : event.refIds()) {
+                    orderRepository.findById(orderId).ifPresent(orders::add);
+                }
+                Drone drone = droneRepository.findById(event.refId()).orElse(null);
+                routeRepository.save(new Route(event.id(), drone, orders, event.distance(),
+                    decode(RouteStatus.values(), event.code())));
+            }
+            case ROUTE_STATUS_CHANGED -> routeRepository.findById(event.id()).ifPresent(route ->
+                routeRepository.updateStatus(route.getId(), decode(RouteStatus.values(), event.code())));
+            case ORDER_ARCHIVED -> retentionService.archiveOrder(event.id());
+            case ROUTE_ARCHIVED -> retentionService.archiveRoute(event.id());
+        }
+    }
+
+    private int resetInterruptedDeliveries() {
+        int resetDrones = 0;
+        for (Drone drone : droneRepository.findAll()) {
+            if (drone.getStatus() == DroneState.IDLE && drone.getOrders().isEmpty()) {
+                continue;
+            }
+            for (Order order : new ArrayList<>(drone.getOrders())) {
+                droneRepository.removeOrderFromDrone(drone.getId(), order.getId());
+            }
+            droneRepository.updateState(drone.getId(), DroneState.IDLE);
+            droneRepository.moveDrone(drone.getId(), 0, 0);
+            resetDrones++;
+        }
+
+        for (OrderState state : List.of(OrderState.ALLOCATED, OrderState.ON_ROUTE)) {
+            for (Order order : orderRepository.findByState(state)) {
+                order.setState(OrderState.PENDING);
+                orderRepository.update(order);
+            }
+        }
+        return resetDrones;
+    }
+
+    private static <E extends Enum<E>> E decode(E[] values, int ordinal) {
+        return ordinal == JournalEvent.NONE ? null : values[ordinal];
+    }
+}
@@ -0,0 +1,298 @@
+package com.dti.drone_delivery_simulator.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dti.drone_delivery_simulator.enums.JournalEventType;
+
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class MappedEventJournal implements EventJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedEventJournal.class);
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int FIXED_BODY_BYTES = 1 + Long.BYTES * 2 + Integer.BYTES * 2 + Double.BYTES * 2 + 2 + Integer.BYTES;
+    private static final JournalEventType[] TYPES = JournalEventType.values();
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSizeBytes;
+    private final ThreadLocal<Boolean> replaying = ThreadLocal.withInitial(() -> false);
+    private final CRC32 crc = new CRC32();
+
+    private ScheduledExecutorService flusher;
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private long firstSegmentOfRun;
+    private int flushedPosition;
+
+    public MappedEventJournal(
+            @Value("${simulator.journal.enabled:false}") boolean enabled,
+            @Value("${simulator.journal.directory:data/journal}") String directory,
+            @Value("${simulator.journal.segment-size-bytes:16777216}") int segmentSizeBytes,
+            @Value("${simulator.journal.group-commit-interval-ms:20}") long groupCommitIntervalMs) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSizeBytes = segmentSizeBytes;
+
+        if (enabled) {
+            open();
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "journal-group-commit");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flush, groupCommitIntervalMs, groupCommitIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void append(JournalEvent event) {
+        if (!enabled || replaying.get()) {
+            return;
+        }
+
+        int bodyBytes = FIXED_BODY_BYTES + event.refIds().length * Long.BYTES;
+        int recordBytes = HEADER_BYTES + bodyBytes;
+        if (recordBytes + Integer.BYTES > segmentSizeBytes) {
+            throw new IllegalArgumentException("Evento maior que o tamanho do segmento do journal.");
+        }
+
+        synchronized (this) {
+            if (segment.remaining() < recordBytes + Integer.BYTES) {
+                rotate();
+            }
+
+            int start = segment.position();
+            segment.position(start + HEADER_BYTES);
+            writeBody(segment, event);
+
+            crc.reset();
+            crc.update(segment.duplicate().position(start + HEADER_BYTES).limit(start + recordBytes));
+            segment.putInt(start, bodyBytes);
+            segment.putInt(start + Integer.BYTES, (int) crc.getValue());
+        }
+    }
+
+    @Override
+    public synchronized JournalPosition position() {
+        if (!enabled) {
+            return JournalPosition.START;
+        }
+        return new JournalPosition(segmentIndex, segment.position());
+    }
+
+    @Override
+    public void replay(JournalPosition from, Consumer<JournalEvent> consumer) {
+        if (!enabled) {
+            return;
+        }
+
+        withoutJournaling(() -> {
+            for (Path path : segments()) {
+                long index = indexOf(path);
+                if (index < from.segment()) {
+                    continue;
+                }
+                if (index >= firstSegmentOfRun) {
+                    break;
+                }
+                int offset = index == from.segment() ? from.offset() : 0;
+                if (!replaySegment(path, offset, consumer)) {
+                    log.warn("Journal truncado em {}; eventos posteriores foram ignorados.", path.getFileName());
+                    break;
+                }
+            }
+        });
+    }
+
+    @Override
+    public void withoutJournaling(Runnable action) {
+        boolean previous = replaying.get();
+        replaying.set(true);
+        try {
+            action.run();
+        } finally {
+            replaying.set(previous);
+        }
+    }
+
+    @Override
+    public void truncateBefore(JournalPosition position) {
+        if (!enabled) {
+            return;
+        }
+        for (Path path : segments()) {
+            if (indexOf(path) >= position.segment()) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Não foi possível remover o segmento {}: {}", path.getFileName(), e.getMessage());
+            }
+        }
+    }
+
+    public void flush() {
+        MappedByteBuffer current;
+        int position;
+        synchronized (this) {
+            current = segment;
+            position = segment.position();
+            if (position == flushedPosition) {
+                return;
+            }
+            flushedPosition = position;
+        }
+        current.force();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        flusher.shutdown();
+        synchronized (this) {
+            segment.force();
+        }
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> existing = segments();
+            segmentIndex = existing.isEmpty() ? 1 : indexOf(existing.get(existing.size() - 1)) + 1;
+            firstSegmentOfRun = segmentIndex;
+            segment = map(segmentIndex);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o journal em " + directory, e);
+        }
+    }
+
+    private void rotate() {
+        segment.force();
+        segmentIndex++;
+        segment = map(segmentIndex);
+        flushedPosition = 0;
+    }
+
+    private MappedByteBuffer map(long index) {
+        Path path = directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSizeBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível criar o segmento " + path, e);
+        }
+    }
+
+    private boolean replaySegment(Path path, int offset, Consumer<JournalEvent> consumer) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.position(offset);
+            CRC32 checksum = new CRC32();
+
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int start = buffer.position();
+                int bodyBytes = buffer.getInt();
+                if (bodyBytes == 0) {
+                    return true;
+                }
+                int expectedCrc = buffer.getInt();
+                if (bodyBytes < FIXED_BODY_BYTES || bodyBytes > buffer.remaining()) {
+                    return false;
+                }
+
+                checksum.reset();
+                checksum.update(buffer.duplicate().limit(start + HEADER_BYTES + bodyBytes));
+                if ((int) checksum.getValue() != expectedCrc) {
+                    return false;
+                }
+
+                consumer.accept(readBody(buffer));
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ler o segmento " + path, e);
+        }
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível listar o journal em " + directory, e);
+        }
+    }
+
+    private static long indexOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void writeBody(ByteBuffer buffer, JournalEvent event) {
+        buffer.put((byte) event.type().ordinal());
+        buffer.putLong(event.id());
+        buffer.putLong(event.refId());
+        buffer.putInt(event.x());
+        buffer.putInt(event.y());
+        buffer.putDouble(event.weight());
+        buffer.putDouble(event.distance());
+        buffer.put((byte) event.code());
+        buffer.put((byte) event.priority());
+        buffer.putInt(event.refIds().length);
+        for (long refId : event.refIds()) {
+            buffer.putLong(refId);
+        }
+    }
+
+    private static JournalEvent readBody(ByteBuffer buffer) {
+        JournalEventType type = TYPES[buffer.get()];
+        long id = buffer.getLong();
+        long refId = buffer.getLong();
+        int x = buffer.getInt();
+        int y = buffer.getInt();
+        double weight = buffer.getDouble();
+        double distance = buffer.getDouble();
+        int code = buffer.get();
+        int priority = buffer.get();
+        long[] refIds = new long[buffer.getInt()];
+        for (int i = 0; i < refIds.length; i++) {
+            refIds[i] = buffer.getLong();
+        }
+        return new JournalEvent(type, id, refId, x, y, weight, distance, code, priority, refIds);
+    }
+}
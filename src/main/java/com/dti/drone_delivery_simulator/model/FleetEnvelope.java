@@ -0,0 +1,63 @@
+package com.dti.drone_delivery_simulator.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public final class FleetEnvelope {
+
+    public static final FleetEnvelope EMPTY = new FleetEnvelope(new double[0], new double[0]);
+
+    private final double[] payloadsKg;
+    private final double[] rangesKm;
+
+    private FleetEnvelope(double[] payloadsKg, double[] rangesKm) {
+        this.payloadsKg = payloadsKg;
+        this.rangesKm = rangesKm;
+    }
+
+    public static FleetEnvelope of(Collection<Drone> drones) {
+        FleetEnvelope envelope = EMPTY;
+        for (Drone drone : drones) {
+            envelope = envelope.with(drone.getMaxPayloadKg(), drone.getMaxRangeKm());
+        }
+        return envelope;
+    }
+
+    public boolean admits(double payloadKg, double distanceKm) {
+        int index = firstCarrying(payloadKg);
+        return index < payloadsKg.length && rangesKm[index] >= distanceKm * 2;
+    }
+
+    public FleetEnvelope with(double maxPayloadKg, double maxRangeKm) {
+        int index = firstCarrying(maxPayloadKg);
+        if (index < payloadsKg.length && rangesKm[index] >= maxRangeKm) {
+            return this;
+        }
+
+        int keptBelow = index;
+        while (keptBelow > 0 && rangesKm[keptBelow - 1] <= maxRangeKm) {
+            keptBelow--;
+        }
+        int keptAbove = index < payloadsKg.length && payloadsKg[index] == maxPayloadKg ? index + 1 : index;
+
+        int size = keptBelow + 1 + payloadsKg.length - keptAbove;
+        double[] payloads = new double[size];
+        double[] ranges = new double[size];
+        System.arraycopy(payloadsKg, 0, payloads, 0, keptBelow);
+        System.arraycopy(rangesKm, 0, ranges, 0, keptBelow);
+        payloads[keptBelow] = maxPayloadKg;
+        ranges[keptBelow] = maxRangeKm;
+        System.arraycopy(payloadsKg, keptAbove, payloads, keptBelow + 1, payloadsKg.length - keptAbove);
+        System.arraycopy(rangesKm, keptAbove, ranges, keptBelow + 1, rangesKm.length - keptAbove);
+        return new FleetEnvelope(payloads, ranges);
+    }
+
+    public int size() {
+        return payloadsKg.length;
+    }
+
+    private int firstCarrying(double payloadKg) {
+        int index = Arrays.binarySearch(payloadsKg, payloadKg);
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -0,0 +1,503 @@
+package com.dti.drone_delivery_simulator.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.journal.EventJournal;
+import com.dti.drone_delivery_simulator.journal.JournalEvent;
+import com.dti.drone_delivery_simulator.model.Order;
+
+@Repository
+@ConditionalOnProperty(name = "simulator.orders.store", havingValue = "columnar")
+public class ColumnarOrderRepository implements OrderRepository {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte NO_PRIORITY = -1;
+    private static final byte NO_STATE = -1;
+    private static final OrderPriority[] PRIORITIES = OrderPriority.values();
+    private static final OrderState[] STATES = OrderState.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] positionsX = new int[INITIAL_CAPACITY];
+    private int[] positionsY = new int[INITIAL_CAPACITY];
+    private double[] payloads = new double[INITIAL_CAPACITY];
+    private byte[] priorities = new byte[INITIAL_CAPACITY];
+    private byte[] states = new byte[INITIAL_CAPACITY];
+    private int size;
+    private final BitSet freeSlots = new BitSet();
+    private boolean slotsReused;
+
+    private final BitSet[] stateIndex = new BitSet[STATES.length];
+    private final int[] stateCounts = new int[STATES.length];
+    private final SlotIndex slotIndex = new SlotIndex(INITIAL_CAPACITY * 2);
+    private final SpatialOrderIndex pendingIndex = new SpatialOrderIndex();
+    private final EventJournal journal;
+
+    public ColumnarOrderRepository() {
+        this(EventJournal.NONE);
+    }
+
+    @Autowired
+    public ColumnarOrderRepository(EventJournal journal) {
+        this.journal = journal;
+        for (int i = 0; i < STATES.length; i++) {
+            stateIndex[i] = new BitSet();
+        }
+    }
+
+    @Override
+    public Order save(Order order) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotIndex.get(order.getId());
+            if (slot < 0) {
+                slot = append(order.getId());
+                write(slot, order);
+                journal.append(JournalEvent.orderSaved(order));
+            } else {
+                write(slot, order);
+            }
+            return view(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            int slot = slotIndex.get(id);
+            return slot < 0 ? Optional.empty() : Optional.of(view(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Order> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Order> result = new ArrayList<>(size - freeSlots.cardinality());
+            if (!slotsReused) {
+                for (int slot = 0; slot < size; slot++) {
+                    if (!freeSlots.get(slot)) {
+                        result.add(view(slot));
+                    }
+                }
+                return result;
+            }
+
+            long[] liveIds = new long[size - freeSlots.cardinality()];
+            int count = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (!freeSlots.get(slot)) {
+                    liveIds[count++] = ids[slot];
+                }
+            }
+            Arrays.sort(liveIds);
+            for (long id : liveIds) {
+                result.add(view(slotIndex.get(id)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Order update(Order order) {
+        return save(order);
+    }
+
+    @Override
+    public Optional<Order> remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotIndex.remove(id);
+            if (slot < 0) {
+                return Optional.empty();
+            }
+
+            Order removed = new Order(ids[slot], positionsX[slot], positionsY[slot], payloads[slot],
+                priorities[slot] == NO_PRIORITY ? null : PRIORITIES[priorities[slot]],
+                states[slot] == NO_STATE ? null : STATES[states[slot]]);
+            byte state = states[slot];
+            if (state != NO_STATE) {
+                stateIndex[state].clear(slot);
+                stateCounts[state]--;
+            }
+            if (state == OrderState.PENDING.ordinal()) {
+                pendingIndex.remove(view(slot));
+            }
+            states[slot] = NO_STATE;
+            freeSlots.set(slot);
+            return Optional.of(removed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Order> findPendingOrders() {
+        return findByState(OrderState.PENDING);
+    }
+
+    @Override
+    public List<Order> findByState(OrderState state) {
+        lock.readLock().lock();
+        try {
+            BitSet slots = stateIndex[state.ordinal()];
+            List<Order> result = new ArrayList<>(stateCounts[state.ordinal()]);
+            for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                if (states[slot] == state.ordinal()) {
+                    result.add(view(slot));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long countByState(OrderState state) {
+        lock.readLock().lock();
+        try {
+            return stateCounts[state.ordinal()];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Order> findPendingWithinRadius(int x, int y, double radius) {
+        return pendingIndex.findWithinRadius(x, y, radius);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - freeSlots.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long footprintBytes() {
+        lock.readLock().lock();
+        try {
+            long columns = (long) ids.length * (Long.BYTES + Integer.BYTES * 2 + Double.BYTES + 2);
+            long bitsets = 0;
+            for (BitSet bits : stateIndex) {
+                bitsets += bits.size() / Byte.SIZE;
+            }
+            return columns + slotIndex.footprintBytes() + bitsets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int append(long id) {
+        int free = freeSlots.nextSetBit(0);
+        if (free >= 0) {
+            freeSlots.clear(free);
+            slotsReused = true;
+            ids[free] = id;
+            states[free] = NO_STATE;
+            slotIndex.put(id, free);
+            return free;
+        }
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            positionsX = Arrays.copyOf(positionsX, capacity);
+            positionsY = Arrays.copyOf(positionsY, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            states = Arrays.copyOf(states, capacity);
+        }
+        int slot = size++;
+        ids[slot] = id;
+        states[slot] = NO_STATE;
+        slotIndex.put(id, slot);
+        return slot;
+    }
+
+    private OrderView view(int slot) {
+        return new OrderView(slot, ids[slot]);
+    }
+
+    private void write(int slot, Order order) {
+        writePosition(slot, order.getClientPositionX(), order.getClientPositionY());
+        payloads[slot] = order.getPayloadKg();
+        priorities[slot] = order.getPriority() == null ? NO_PRIORITY : (byte) order.getPriority().ordinal();
+        writeState(slot, order.getState());
+    }
+
+    private void writePosition(int slot, int x, int y) {
+        if (positionsX[slot] == x && positionsY[slot] == y) {
+            return;
+        }
+        positionsX[slot] = x;
+        positionsY[slot] = y;
+        if (states[slot] == OrderState.PENDING.ordinal()) {
+            pendingIndex.add(view(slot));
+        }
+    }
+
+    private void writeState(int slot, OrderState state) {
+        byte previous = states[slot];
+        byte next = state == null ? NO_STATE : (byte) state.ordinal();
+        if (previous == next) {
+            return;
+        }
+        if (previous != NO_STATE) {
+            stateIndex[previous].clear(slot);
+            stateCounts[previous]--;
+            journal.append(JournalEvent.orderStateChanged(ids[slot], state));
+        }
+        if (next != NO_STATE) {
+            stateIndex[next].set(slot);
+            stateCounts[next]++;
+        }
+        if (previous == OrderState.PENDING.ordinal()) {
+            pendingIndex.remove(view(slot));
+        }
+        if (next == OrderState.PENDING.ordinal()) {
+            pendingIndex.add(view(slot));
+        }
+        states[slot] = next;
+    }
+
+    private class OrderView extends Order {
+
+        private final int slot;
+        private final long id;
+
+        private OrderView(int slot, long id) {
+            this.slot = slot;
+            this.id = id;
+        }
+
+        private int slot() {
+            if (ids[slot] != id || freeSlots.get(slot)) {
+                throw new IllegalStateException("Pedido " + id + " não está mais armazenado neste repositório");
+            }
+            return slot;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public int getClientPositionX() {
+            lock.readLock().lock();
+            try {
+                return positionsX[slot()];
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public int getClientPositionY() {
+            lock.readLock().lock();
+            try {
+                return positionsY[slot()];
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public double getPayloadKg() {
+            lock.readLock().lock();
+            try {
+                return payloads[slot()];
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public OrderPriority getPriority() {
+            lock.readLock().lock();
+            try {
+                byte priority = priorities[slot()];
+                return priority == NO_PRIORITY ? null : PRIORITIES[priority];
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public OrderState getState() {
+            lock.readLock().lock();
+            try {
+                byte state = states[slot()];
+                return state == NO_STATE ? null : STATES[state];
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void setId(Long id) {
+            throw new UnsupportedOperationException("Id de pedido armazenado não pode ser alterado");
+        }
+
+        @Override
+        public void setClientPositionX(int clientPositionX) {
+            lock.writeLock().lock();
+            try {
+                int current = slot();
+                writePosition(current, clientPositionX, positionsY[current]);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void setClientPositionY(int clientPositionY) {
+            lock.writeLock().lock();
+            try {
+                int current = slot();
+                writePosition(current, positionsX[current], clientPositionY);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void setPayloadKg(double payloadKg) {
+            lock.writeLock().lock();
+            try {
+                payloads[slot()] = payloadKg;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void setPriority(OrderPriority priority) {
+            lock.writeLock().lock();
+            try {
+                priorities[slot()] = priority == null ? NO_PRIORITY : (byte) priority.ordinal();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void setState(OrderState state) {
+            lock.writeLock().lock();
+            try {
+                writeState(slot(), state);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static final class SlotIndex {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+        private static final long REMOVED = Long.MIN_VALUE + 1;
+
+        private long[] keys;
+        private int[] slots;
+        private int count;
+        private int live;
+
+        private SlotIndex(int capacity) {
+            keys = new long[capacity];
+            slots = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+        }
+
+        private int get(long id) {
+            int mask = keys.length - 1;
+            for (int i = mix(id) & mask; ; i = (i + 1) & mask) {
+                if (keys[i] == id) {
+                    return slots[i];
+                }
+                if (keys[i] == EMPTY) {
+                    return -1;
+                }
+            }
+        }
+
+        private void put(long id, int slot) {
+            if ((count + 1) * 2 > keys.length) {
+                rehash();
+            }
+            insert(id, slot);
+            count++;
+        }
+
+        private int remove(long id) {
+            int mask = keys.length - 1;
+            for (int i = mix(id) & mask; ; i = (i + 1) & mask) {
+                if (keys[i] == id) {
+                    keys[i] = REMOVED;
+                    live--;
+                    return slots[i];
+                }
+                if (keys[i] == EMPTY) {
+                    return -1;
+                }
+            }
+        }
+
+        private void insert(long id, int slot) {
+            int mask = keys.length - 1;
+            int i = mix(id) & mask;
+            while (keys[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = id;
+            slots[i] = slot;
+            live++;
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            int[] oldSlots = slots;
+            int capacity = (live + 1) * 4 > oldKeys.length ? oldKeys.length * 2 : oldKeys.length;
+            keys = new long[capacity];
+            slots = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            live = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY && oldKeys[i] != REMOVED) {
+                    insert(oldKeys[i], oldSlots[i]);
+                }
+            }
+            count = live;
+        }
+
+        private long footprintBytes() {
+            return (long) keys.length * (Long.BYTES + Integer.BYTES);
+        }
+
+        private static int mix(long id) {
+            long h = id * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.dti.drone_delivery_simulator.repository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+import java.util.function.UnaryOperator;
+
+import com.dti.drone_delivery_simulator.model.Drone;
+
+final class DroneActor {
+
+    interface Publisher {
+        void publish(Drone previous, Drone latest);
+    }
+
+    private record Word(long version, Drone drone) {}
+
+    private final AtomicReference<Word> word;
+    private final Publisher publisher;
+    private final LongConsumer contention;
+
+    private Word published;
+
+    DroneActor(Drone initial, Publisher publisher, LongConsumer contention) {
+        this.word = new AtomicReference<>(new Word(0, freeze(initial)));
+        this.publisher = publisher;
+        this.contention = contention;
+    }
+
+    Drone snapshot() {
+        return copy(word.get().drone());
+    }
+
+    Drone update(UnaryOperator<Drone> change) {
+        long retries = 0;
+        while (true) {
+            Word current = word.get();
+            Drone next = change.apply(current.drone());
+            if (next == null || next == current.drone()) {
+                report(retries);
+                return next == null ? null : copy(next);
+            }
+            Word updated = new Word(current.version() + 1, freeze(next));
+            if (word.compareAndSet(current, updated)) {
+                report(retries);
+                publish();
+                return copy(updated.drone());
+            }
+            retries++;
+        }
+    }
+
+    synchronized void publish() {
+        Word latest = word.get();
+        if (published == null || latest.version() > published.version()) {
+            publisher.publish(published == null ? null : published.drone(), latest.drone());
+            published = latest;
+        }
+    }
+
+    private void report(long retries) {
+        if (retries > 0) {
+            contention.accept(retries);
+        }
+    }
+
+    private static Drone copy(Drone drone) {
+        return new Drone(drone.getId(), drone.getMaxPayloadKg(), drone.getMaxRangeKm(), drone.getStatus(),
+            drone.getPositionX(), drone.getPositionY(), drone.getOrders());
+    }
+
+    private static Drone freeze(Drone drone) {
+        return new Drone(drone.getId(), drone.getMaxPayloadKg(), drone.getMaxRangeKm(), drone.getStatus(),
+            drone.getPositionX(), drone.getPositionY(), List.copyOf(drone.getOrders()));
+    }
+}
@@ -11,11 +11,16 @@ import com.dti.drone_delivery_simulator.model.Order;
 
 @Repository
 public interface DroneRepository {
+    Drone save(Drone drone);
     List<Drone> findAll();
     Optional<Drone> findById(Long id);
     List<Drone> findByState(DroneState state);
+    long countByState(DroneState state);
     
     Drone addOrderToDrone(Long droneId, Order order);
     Drone removeOrderFromDrone(Long droneId, Long orderId);
     Drone advanceDroneState(Long droneId);
+    Drone updateState(Long droneId, DroneState state);
+    Drone transition(Long droneId, DroneState expected, DroneState target);
+    Drone moveDrone(Long droneId, int positionX, int positionY);
 }
@@ -1,86 +1,282 @@
 package com.dti.drone_delivery_simulator.repository;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import com.dti.drone_delivery_simulator.enums.DroneState;
 import com.dti.drone_delivery_simulator.exception.DroneNotAvailableException;
 import com.dti.drone_delivery_simulator.exception.DroneNotFoundException;
+import com.dti.drone_delivery_simulator.exception.DroneStateConflictException;
 import com.dti.drone_delivery_simulator.exception.OrderNotFoundException;
+import com.dti.drone_delivery_simulator.journal.EventJournal;
+import com.dti.drone_delivery_simulator.journal.JournalEvent;
 import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.FleetEnvelope;
 import com.dti.drone_delivery_simulator.model.Order;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 
 @Repository
-@RequiredArgsConstructor
 public class InMemoryDroneRepository implements DroneRepository{
 
-    private final Map<Long, Drone> drones;
+    private final Map<Long, DroneActor> drones = new ConcurrentHashMap<>();
+    private final Map<DroneState, Set<Long>> stateIndex = new EnumMap<>(DroneState.class);
+    private final EventJournal journal;
+    private final MeterRegistry meterRegistry;
+    private final Counter casRetries;
+    private volatile FleetEnvelope envelope = FleetEnvelope.EMPTY;
+
+    public InMemoryDroneRepository() {
+        this(EventJournal.NONE);
+    }
+
+    public InMemoryDroneRepository(EventJournal journal) {
+        this(journal, new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public InMemoryDroneRepository(EventJournal journal, MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.meterRegistry = meterRegistry;
+        this.casRetries = Counter.builder("simulator.drone.cas.retries")
+            .description("Tentativas de CAS repetidas por disputa na versão do drone")
+            .register(meterRegistry);
+        for (DroneState state : DroneState.values()) {
+            stateIndex.put(state, new ConcurrentSkipListSet<>());
+        }
+    }
 
     @PostConstruct
     public void init() {
-        drones.put(1L, new Drone(1L, 10.0, 20.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
-        drones.put(2L, new Drone(2L, 15.0, 25.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
-        drones.put(3L, new Drone(3L, 8.0, 18.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        save(new Drone(1L, 10.0, 20.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        save(new Drone(2L, 15.0, 25.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        save(new Drone(3L, 8.0, 18.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+    }
+
+    @Override
+    public Drone save(Drone drone) {
+        DroneActor created = new DroneActor(drone, this::publish, casRetries::increment);
+        DroneActor existing = drones.putIfAbsent(drone.getId(), created);
+
+        Drone saved;
+        if (existing == null) {
+            created.publish();
+            saved = created.snapshot();
+        } else {
+            saved = existing.update(current -> new Drone(current.getId(), drone.getMaxPayloadKg(),
+                drone.getMaxRangeKm(), drone.getStatus(), drone.getPositionX(), drone.getPositionY(),
+                List.copyOf(drone.getOrders())));
+        }
+        refreshEnvelope(existing != null, saved);
+        return saved;
+    }
+
+    public FleetEnvelope capabilityEnvelope() {
+        return envelope;
     }
 
     @Override
     public List<Drone> findAll() {
-        return new ArrayList<>(drones.values());
+        List<Drone> result = new ArrayList<>(drones.size());
+        for (DroneActor drone : drones.values()) {
+            result.add(drone.snapshot());
+        }
+        return result;
     }
 
     @Override
     public Optional<Drone> findById(Long id) {
-        return Optional.ofNullable(drones.get(id));
+        DroneActor drone = drones.get(id);
+        return drone == null ? Optional.empty() : Optional.of(drone.snapshot());
     }
 
     @Override
     public List<Drone> findByState(DroneState state) {
-        return drones.values().stream()
-            .filter(d -> d.getStatus() == state)
-            .collect(Collectors.toList());
+        List<Drone> result = new ArrayList<>();
+        for (Long id : stateIndex.get(state)) {
+            DroneActor drone = drones.get(id);
+            Drone snapshot = drone == null ? null : drone.snapshot();
+            if (snapshot != null && snapshot.getStatus() == state) {
+                result.add(snapshot);
+            }
+        }
+        return result;
     }
 
     @Override
-    public Drone addOrderToDrone(Long droneId, Order order) {
-        Drone drone = this.findById(droneId)
-                            .orElseThrow(() -> new DroneNotFoundException("Drone not found."));
+    public long countByState(DroneState state) {
+        return stateIndex.get(state).size();
+    }
 
-        if (drone.getStatus() != DroneState.IDLE) {
+    @Override
+    public Drone addOrderToDrone(Long droneId, Order order) {
+        DroneState[] observed = new DroneState[1];
+        Drone updated = actorOf(droneId).update(current -> {
+            observed[0] = current.getStatus();
+            return current.getStatus() == DroneState.IDLE ? withOrders(current, append(current.getOrders(), order)) : null;
+        });
+        if (updated == null) {
+            meterRegistry.counter("simulator.drone.allocation.rejected", "state", observed[0].name()).increment();
             throw new DroneNotAvailableException("Drone not available");
         }
-
-        drone.getOrders().add(order);
-        return drone;
+        return updated;
     }
 
     @Override
     public Drone removeOrderFromDrone(Long droneId, Long orderId) {
-        Drone drone = this.findById(droneId)
-                        .orElseThrow(() -> new IllegalArgumentException("Drone not found."));
+        return actorOf(droneId).update(current -> {
+            if (!containsOrder(current, orderId)) {
+                throw new OrderNotFoundException("Warning: Order " + orderId + " not found on drone " + droneId);
+            }
+            return withOrders(current, without(current.getOrders(), orderId));
+        });
+    }
 
-        boolean removed = drone.getOrders().removeIf(order -> order.getId().equals(orderId));
+    public Drone restoreOrder(Long droneId, Order order) {
+        return actorOf(droneId).update(current -> containsOrder(current, order.getId())
+            ? current
+            : withOrders(current, append(current.getOrders(), order)));
+    }
 
-        if (!removed) {
-            throw new OrderNotFoundException("Warning: Order " + orderId + " not found on drone " + droneId);
-        }
+    public Drone discardOrder(Long droneId, Long orderId) {
+        return actorOf(droneId).update(current -> containsOrder(current, orderId)
+            ? withOrders(current, without(current.getOrders(), orderId))
+            : current);
+    }
 
-        return drone;
+    @Override
+    public Drone moveDrone(Long droneId, int positionX, int positionY) {
+        return actorOf(droneId).update(current -> new Drone(current.getId(), current.getMaxPayloadKg(),
+            current.getMaxRangeKm(), current.getStatus(), positionX, positionY, current.getOrders()));
+    }
+
+    @Override
+    public Drone transition(Long droneId, DroneState expected, DroneState target) {
+        if (!expected.canTransitionTo(target)) {
+            reject(expected, target, "illegal");
+            throw new DroneStateConflictException(
+                "Transição inválida do drone " + droneId + ": " + expected + " -> " + target);
+        }
+        DroneState[] observed = new DroneState[1];
+        Drone updated = actorOf(droneId).update(current -> {
+            observed[0] = current.getStatus();
+            return current.getStatus() == expected ? withStatus(current, target) : null;
+        });
+        if (updated == null) {
+            reject(expected, target, "stale");
+            throw new DroneStateConflictException("Drone " + droneId + " está em " + observed[0]
+                + ", transição " + expected + " -> " + target + " rejeitada");
+        }
+        return updated;
     }
 
     @Override
     public Drone advanceDroneState(Long droneId) {
-        Drone drone = this.findById(droneId)
-                        .orElseThrow(() -> new DroneNotFoundException("Drone not found."));
+        DroneState current = actorOf(droneId).snapshot().getStatus();
+        return transition(droneId, current, current.next());
+    }
+
+    @Override
+    public Drone updateState(Long droneId, DroneState state) {
+        return actorOf(droneId).update(current -> current.getStatus() == state ? current : withStatus(current, state));
+    }
+
+    private DroneActor actorOf(Long droneId) {
+        DroneActor actor = drones.get(droneId);
+        if (actor == null) {
+            throw new DroneNotFoundException("Drone not found.");
+        }
+        return actor;
+    }
+
+    private void reject(DroneState expected, DroneState target, String reason) {
+        meterRegistry.counter("simulator.drone.transition.rejected",
+            "from", expected.name(), "to", target.name(), "reason", reason).increment();
+    }
+
+    private void publish(Drone previous, Drone latest) {
+        Long id = latest.getId();
+        if (previous == null || previous.getMaxPayloadKg() != latest.getMaxPayloadKg()
+                || previous.getMaxRangeKm() != latest.getMaxRangeKm()) {
+            if (previous != null) {
+                stateIndex.get(previous.getStatus()).remove(id);
+            }
+            stateIndex.get(latest.getStatus()).add(id);
+            journal.append(JournalEvent.droneSaved(latest));
+        } else if (previous.getStatus() != latest.getStatus()) {
+            stateIndex.get(latest.getStatus()).add(id);
+            stateIndex.get(previous.getStatus()).remove(id);
+            journal.append(JournalEvent.droneStateChanged(id, latest.getStatus()));
+        }
+
+        List<Order> before = previous == null ? List.of() : previous.getOrders();
+        if (before == latest.getOrders()) {
+            return;
+        }
+        Set<Long> remaining = new HashSet<>();
+        for (Order order : latest.getOrders()) {
+            remaining.add(order.getId());
+        }
+        Set<Long> known = new HashSet<>();
+        for (Order order : before) {
+            known.add(order.getId());
+            if (!remaining.contains(order.getId())) {
+                journal.append(JournalEvent.droneOrderRemoved(id, order.getId()));
+            }
+        }
+        for (Order order : latest.getOrders()) {
+            if (!known.contains(order.getId())) {
+                journal.append(JournalEvent.droneOrderAdded(id, order.getId()));
+            }
+        }
+    }
+
+    private synchronized void refreshEnvelope(boolean replaced, Drone saved) {
+        envelope = replaced
+            ? FleetEnvelope.of(findAll())
+            : envelope.with(saved.getMaxPayloadKg(), saved.getMaxRangeKm());
+    }
+
+    private static boolean containsOrder(Drone drone, Long orderId) {
+        for (Order order : drone.getOrders()) {
+            if (order.getId().equals(orderId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Order> append(List<Order> orders, Order order) {
+        List<Order> updated = new ArrayList<>(orders.size() + 1);
+        updated.addAll(orders);
+        updated.add(order);
+        return List.copyOf(updated);
+    }
+
+    private static List<Order> without(List<Order> orders, Long orderId) {
+        return orders.stream().filter(order -> !order.getId().equals(orderId)).toList();
+    }
+
+    private static Drone withOrders(Drone drone, List<Order> orders) {
+        return new Drone(drone.getId(), drone.getMaxPayloadKg(), drone.getMaxRangeKm(), drone.getStatus(),
+            drone.getPositionX(), drone.getPositionY(), orders);
+    }
 
-        drone.setStatus(drone.getStatus().next());
-        return drone;
+    private static Drone withStatus(Drone drone, DroneState status) {
+        return new Drone(drone.getId(), drone.getMaxPayloadKg(), drone.getMaxRangeKm(), status,
+            drone.getPositionX(), drone.getPositionY(), drone.getOrders());
     }
 }
@@ -1,44 +1,136 @@
 package com.dti.drone_delivery_simulator.repository;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.journal.EventJournal;
+import com.dti.drone_delivery_simulator.journal.JournalEvent;
 import com.dti.drone_delivery_simulator.model.Order;
 
 @Repository
+@ConditionalOnProperty(name = "simulator.orders.store", havingValue = "heap", matchIfMissing = true)
 public class InMemoryOrderRepository implements OrderRepository{
 
-    private final List<Order> orders = Collections.synchronizedList(new ArrayList<>());
+    private final Map<Long, Order> orders = new ConcurrentHashMap<>();
+    private final Map<Long, OrderState> indexedStates = new ConcurrentHashMap<>();
+    private final Map<OrderState, Set<Long>> stateIndex = new EnumMap<>(OrderState.class);
+    private final SpatialOrderIndex pendingIndex = new SpatialOrderIndex();
+    private final EventJournal journal;
+
+    public InMemoryOrderRepository() {
+        this(EventJournal.NONE);
+    }
+
+    @Autowired
+    public InMemoryOrderRepository(EventJournal journal) {
+        this.journal = journal;
+        for (OrderState state : OrderState.values()) {
+            stateIndex.put(state, new ConcurrentSkipListSet<>());
+        }
+    }
 
     @Override
     public Order save(Order order) {
-        orders.add(order);
+        orders.put(order.getId(), order);
+        journal.append(JournalEvent.orderSaved(order));
+        reindex(order);
         return order;
     }
 
+    @Override
+    public Optional<Order> findById(Long id) {
+        return Optional.ofNullable(orders.get(id));
+    }
+
     @Override
     public List<Order> findAll() {
-        return new ArrayList<>(orders);
+        List<Order> result = new ArrayList<>(orders.values());
+        result.sort(Comparator.comparing(Order::getId));
+        return result;
     }
 
     @Override
     public Order update(Order updatedOrder) {
-        synchronized (orders) {
-            orders.removeIf(o -> o.getId().equals(updatedOrder.getId()));
-            orders.add(updatedOrder);
-        }
+        orders.put(updatedOrder.getId(), updatedOrder);
+        reindex(updatedOrder);
         return updatedOrder;
     }
 
+    @Override
+    public Optional<Order> remove(Long id) {
+        Order removed = orders.remove(id);
+        if (removed != null) {
+            indexedStates.computeIfPresent(id, (orderId, previous) -> {
+                stateIndex.get(previous).remove(orderId);
+                if (previous == OrderState.PENDING) {
+                    pendingIndex.remove(removed);
+                }
+                return null;
+            });
+        }
+        return Optional.ofNullable(removed);
+    }
+
     @Override
     public List<Order> findPendingOrders() {
-        return orders.stream()
-                .filter(order -> order.getState() == OrderState.PENDING)
-                .collect(Collectors.toList());
+        return findByState(OrderState.PENDING);
+    }
+
+    @Override
+    public List<Order> findByState(OrderState state) {
+        List<Order> result = new ArrayList<>();
+        for (Long id : stateIndex.get(state)) {
+            Order order = orders.get(id);
+            if (order != null && order.getState() == state) {
+                result.add(order);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long countByState(OrderState state) {
+        return stateIndex.get(state).size();
+    }
+
+    @Override
+    public List<Order> findPendingWithinRadius(int x, int y, double radius) {
+        return pendingIndex.findWithinRadius(x, y, radius);
+    }
+
+    private void reindex(Order order) {
+        OrderState state = order.getState();
+        indexedStates.compute(order.getId(), (id, previous) -> {
+            if (previous != state) {
+                if (previous != null) {
+                    stateIndex.get(previous).remove(id);
+                    journal.append(JournalEvent.orderStateChanged(id, state));
+                }
+                if (state != null) {
+                    stateIndex.get(state).add(id);
+                }
+                if (previous == OrderState.PENDING) {
+                    pendingIndex.remove(order);
+                }
+                if (state == OrderState.PENDING) {
+                    pendingIndex.add(order);
+                }
+            } else if (state == OrderState.PENDING) {
+                pendingIndex.add(order);
+            }
+            return state;
+        });
     }
 }
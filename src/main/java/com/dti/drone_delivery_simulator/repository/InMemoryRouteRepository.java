@@ -1,31 +1,65 @@
 package com.dti.drone_delivery_simulator.repository;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import com.dti.drone_delivery_simulator.enums.RouteStatus;
 import com.dti.drone_delivery_simulator.exception.RouteNotFoundException;
 import com.dti.drone_delivery_simulator.exception.RouteStatusException;
+import com.dti.drone_delivery_simulator.journal.EventJournal;
+import com.dti.drone_delivery_simulator.journal.JournalEvent;
 import com.dti.drone_delivery_simulator.model.Route;
 
 @Repository
 public class InMemoryRouteRepository implements RouteRepository{
     
-    private final Map<Long, Route> routes = new LinkedHashMap<>();
+    private final ConcurrentSkipListMap<Long, Route> routes = new ConcurrentSkipListMap<>();
+    private final Map<RouteStatus, Set<Long>> statusIndex = new EnumMap<>(RouteStatus.class);
+    private final Map<Long, Set<Long>> droneIndex = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    private final AtomicLong routedOrders = new AtomicLong();
+    private final EventJournal journal;
+
+    public InMemoryRouteRepository() {
+        this(EventJournal.NONE);
+    }
+
+    @Autowired
+    public InMemoryRouteRepository(EventJournal journal) {
+        this.journal = journal;
+        for (RouteStatus status : RouteStatus.values()) {
+            statusIndex.put(status, new ConcurrentSkipListSet<>());
+        }
+    }
 
     @Override
     public Route save(Route route) {
         if (route.getId() == null) {
             route.setId(idGenerator.getAndIncrement());
+        } else {
+            idGenerator.accumulateAndGet(route.getId() + 1, Math::max);
         }
-        routes.put(route.getId(), route);
+
+        routes.compute(route.getId(), (id, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(route);
+            journal.append(JournalEvent.routeSaved(route));
+            return route;
+        });
         return route;
     }
 
@@ -39,17 +73,118 @@ public class InMemoryRouteRepository implements RouteRepository{
         return new ArrayList<>(routes.values());
     }
 
+    @Override
+    public List<Route> findPage(Long afterId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        NavigableMap<Long, Route> tail = afterId == null ? routes : routes.tailMap(afterId, false);
+
+        List<Route> page = new ArrayList<>(Math.min(limit, 256));
+        for (Route route : tail.values()) {
+            if (page.size() >= limit) {
+                break;
+            }
+            page.add(route);
+        }
+        return page;
+    }
+
+    @Override
+    public List<Route> findByStatus(RouteStatus status) {
+        return resolve(statusIndex.get(status));
+    }
+
+    @Override
+    public List<Route> findByDroneId(Long droneId) {
+        return resolve(droneIndex.getOrDefault(droneId, Set.of()));
+    }
+
+    public long peekNextId() {
+        return idGenerator.get();
+    }
+
+    public void resumeIdsAfter(long lastId) {
+        idGenerator.accumulateAndGet(lastId + 1, Math::max);
+    }
+
+    @Override
+    public long count() {
+        return routes.size();
+    }
+
+    @Override
+    public long countRoutedOrders() {
+        return routedOrders.get();
+    }
+
     @Override
     public Route updateStatus(Long id, RouteStatus status) {
         if (status == null) {
             throw new RouteStatusException("Status não pode ser nulo");
         }
         
-        Route route = routes.get(id);
+        Route route = routes.computeIfPresent(id, (routeId, current) -> {
+            if (current.getStatus() != null) {
+                statusIndex.get(current.getStatus()).remove(routeId);
+            }
+            current.setStatus(status);
+            statusIndex.get(status).add(routeId);
+            journal.append(JournalEvent.routeStatusChanged(routeId, status));
+            return current;
+        });
+
         if (route != null) {
-            route.setStatus(status);
             return route;
         }
         throw new RouteNotFoundException("Rota não encontrada");
     }
+
+    @Override
+    public Optional<Route> remove(Long id) {
+        Route removed = routes.remove(id);
+        if (removed != null) {
+            unindex(removed);
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    private List<Route> resolve(Set<Long> ids) {
+        List<Route> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Route route = routes.get(id);
+            if (route != null) {
+                result.add(route);
+            }
+        }
+        return result;
+    }
+
+    private void index(Route route) {
+        if (route.getStatus() != null) {
+            statusIndex.get(route.getStatus()).add(route.getId());
+        }
+        if (route.getDrone() != null) {
+            droneIndex.computeIfAbsent(route.getDrone().getId(), droneId -> new ConcurrentSkipListSet<>())
+                .add(route.getId());
+        }
+        if (route.getOrders() != null) {
+            routedOrders.addAndGet(route.getOrders().size());
+        }
+    }
+
+    private void unindex(Route route) {
+        if (route.getStatus() != null) {
+            statusIndex.get(route.getStatus()).remove(route.getId());
+        }
+        if (route.getDrone() != null) {
+            Set<Long> droneRoutes = droneIndex.get(route.getDrone().getId());
+            if (droneRoutes != null) {
+                droneRoutes.remove(route.getId());
+            }
+        }
+        if (route.getOrders() != null) {
+            routedOrders.addAndGet(-route.getOrders().size());
+        }
+    }
 }
@@ -1,12 +1,19 @@
 package com.dti.drone_delivery_simulator.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import com.dti.drone_delivery_simulator.enums.OrderState;
 import com.dti.drone_delivery_simulator.model.Order;
 
 public interface OrderRepository {
     Order save(Order order);
+    Optional<Order> findById(Long id);
     List<Order> findAll();
     Order update(Order order);
+    Optional<Order> remove(Long id);
     List<Order> findPendingOrders();
+    List<Order> findByState(OrderState state);
+    long countByState(OrderState state);
+    List<Order> findPendingWithinRadius(int x, int y, double radius);
 }
@@ -14,5 +14,11 @@ public interface RouteRepository {
     Route save(Route route);
     Optional<Route> findById(Long id);
     List<Route> findAll();
+    List<Route> findPage(Long afterId, int limit);
+    List<Route> findByStatus(RouteStatus status);
+    List<Route> findByDroneId(Long droneId);
+    long count();
+    long countRoutedOrders();
     Route updateStatus(Long id, RouteStatus status);
+    Optional<Route> remove(Long id);
 }
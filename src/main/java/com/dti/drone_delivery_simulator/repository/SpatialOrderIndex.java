@@ -0,0 +1,171 @@
+package com.dti.drone_delivery_simulator.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.dti.drone_delivery_simulator.model.Order;
+
+public class SpatialOrderIndex {
+
+    public static final int DEFAULT_CELL_SIZE = 10;
+
+    private final int cellSize;
+    private final Map<Long, Set<Order>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Long> cellByOrder = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicInteger minCellX = new AtomicInteger(Integer.MAX_VALUE);
+    private final AtomicInteger maxCellX = new AtomicInteger(Integer.MIN_VALUE);
+    private final AtomicInteger minCellY = new AtomicInteger(Integer.MAX_VALUE);
+    private final AtomicInteger maxCellY = new AtomicInteger(Integer.MIN_VALUE);
+
+    public SpatialOrderIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public SpatialOrderIndex(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Tamanho da célula deve ser maior que zero.");
+        }
+        this.cellSize = cellSize;
+    }
+
+    public void add(Order order) {
+        int cellX = cellOf(order.getClientPositionX());
+        int cellY = cellOf(order.getClientPositionY());
+        long key = key(cellX, cellY);
+
+        Long previous = cellByOrder.put(order.getId(), key);
+        if (previous == null) {
+            size.incrementAndGet();
+        } else {
+            removeFromCell(previous, order);
+        }
+        cells.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(order);
+        minCellX.accumulateAndGet(cellX, Math::min);
+        maxCellX.accumulateAndGet(cellX, Math::max);
+        minCellY.accumulateAndGet(cellY, Math::min);
+        maxCellY.accumulateAndGet(cellY, Math::max);
+    }
+
+    public void remove(Order order) {
+        Long key = cellByOrder.remove(order.getId());
+        if (key != null) {
+            removeFromCell(key, order);
+            size.decrementAndGet();
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public List<Order> findWithinRadius(int x, int y, double radius) {
+        List<Order> result = new ArrayList<>();
+        if (radius < 0 || size.get() == 0) {
+            return result;
+        }
+
+        int fromX = Math.max(cellOf((int) Math.floor(x - radius)), minCellX.get());
+        int toX = Math.min(cellOf((int) Math.ceil(x + radius)), maxCellX.get());
+        int fromY = Math.max(cellOf((int) Math.floor(y - radius)), minCellY.get());
+        int toY = Math.min(cellOf((int) Math.ceil(y + radius)), maxCellY.get());
+        long boxCells = (long) (toX - fromX + 1) * (toY - fromY + 1);
+
+        if (boxCells > cells.size()) {
+            for (Set<Order> cell : cells.values()) {
+                collectWithin(cell, x, y, radius, result);
+            }
+        } else {
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                for (int cellY = fromY; cellY <= toY; cellY++) {
+                    Set<Order> cell = cells.get(key(cellX, cellY));
+                    if (cell != null) {
+                        collectWithin(cell, x, y, radius, result);
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparing(Order::getId));
+        return result;
+    }
+
+    public Optional<Order> findNearest(int x, int y) {
+        if (size.get() == 0) {
+            return Optional.empty();
+        }
+
+        int centerX = cellOf(x);
+        int centerY = cellOf(y);
+        int maxRing = Math.max(
+            Math.max(Math.abs(maxCellX.get() - centerX), Math.abs(centerX - minCellX.get())),
+            Math.max(Math.abs(maxCellY.get() - centerY), Math.abs(centerY - minCellY.get())));
+
+        Order nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int cellX = centerX - ring; cellX <= centerX + ring; cellX++) {
+                boolean edgeColumn = cellX == centerX - ring || cellX == centerX + ring;
+                int step = edgeColumn ? 1 : Math.max(1, 2 * ring);
+
+                for (int cellY = centerY - ring; cellY <= centerY + ring; cellY += step) {
+                    Set<Order> cell = cells.get(key(cellX, cellY));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Order order : cell) {
+                        double distance = distance(x, y, order);
+                        if (distance < nearestDistance
+                                || (distance == nearestDistance && order.getId() < nearest.getId())) {
+                            nearest = order;
+                            nearestDistance = distance;
+                        }
+                    }
+                }
+            }
+
+            if (nearest != null && nearestDistance <= (double) ring * cellSize) {
+                break;
+            }
+        }
+
+        return Optional.ofNullable(nearest);
+    }
+
+    private void removeFromCell(long key, Order order) {
+        Set<Order> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(order);
+        }
+    }
+
+    private void collectWithin(Set<Order> cell, int x, int y, double radius, List<Order> result) {
+        for (Order order : cell) {
+            if (distance(x, y, order) <= radius) {
+                result.add(order);
+            }
+        }
+    }
+
+    private double distance(int x, int y, Order order) {
+        long deltaX = (long) order.getClientPositionX() - x;
+        long deltaY = (long) order.getClientPositionY() - y;
+        return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+    }
+
+    private int cellOf(int coordinate) {
+        return Math.floorDiv(coordinate, cellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+}
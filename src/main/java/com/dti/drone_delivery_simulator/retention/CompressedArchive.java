@@ -0,0 +1,174 @@
+package com.dti.drone_delivery_simulator.retention;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public class CompressedArchive<T> {
+
+    public interface Codec<T> {
+        void write(DataOutputStream out, T value) throws IOException;
+        T read(DataInputStream in) throws IOException;
+    }
+
+    public record Segment(long minId, long maxId, int count, byte[] data) {}
+
+    private final Codec<T> codec;
+    private final ToLongFunction<T> idOf;
+    private final int recordsPerSegment;
+    private final List<Segment> segments = new ArrayList<>();
+
+    private ByteArrayOutputStream openBuffer;
+    private DataOutputStream openSegment;
+    private int openCount;
+    private long openMinId;
+    private long openMaxId;
+    private long count;
+
+    public CompressedArchive(Codec<T> codec, ToLongFunction<T> idOf, int recordsPerSegment) {
+        if (recordsPerSegment <= 0) {
+            throw new IllegalArgumentException("Quantidade de registros por segmento deve ser maior que zero.");
+        }
+        this.codec = codec;
+        this.idOf = idOf;
+        this.recordsPerSegment = recordsPerSegment;
+        resetOpenSegment();
+    }
+
+    public synchronized void append(T value) {
+        long id = idOf.applyAsLong(value);
+        try {
+            codec.write(openSegment, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        openMinId = Math.min(openMinId, id);
+        openMaxId = Math.max(openMaxId, id);
+        openCount++;
+        count++;
+
+        if (openCount >= recordsPerSegment) {
+            seal();
+        }
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    public synchronized long compressedBytes() {
+        long bytes = openBuffer.size();
+        for (Segment segment : segments) {
+            bytes += segment.data().length;
+        }
+        return bytes;
+    }
+
+    public synchronized void forEach(Consumer<T> consumer) {
+        for (Segment segment : segments) {
+            decode(inflate(segment.data()), segment.count(), consumer);
+        }
+        decode(openBuffer.toByteArray(), openCount, consumer);
+    }
+
+    public List<T> findAll() {
+        List<T> result = new ArrayList<>();
+        forEach(result::add);
+        result.sort(Comparator.comparingLong(idOf));
+        return result;
+    }
+
+    public synchronized List<T> findAfter(long afterId, int limit) {
+        List<T> result = new ArrayList<>();
+        Consumer<T> collector = value -> {
+            if (idOf.applyAsLong(value) > afterId) {
+                result.add(value);
+            }
+        };
+
+        for (Segment segment : segments) {
+            if (segment.maxId() > afterId) {
+                decode(inflate(segment.data()), segment.count(), collector);
+            }
+        }
+        if (openMaxId > afterId) {
+            decode(openBuffer.toByteArray(), openCount, collector);
+        }
+
+        result.sort(Comparator.comparingLong(idOf));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    public synchronized List<Segment> sealedSegments() {
+        seal();
+        return List.copyOf(segments);
+    }
+
+    public synchronized void restore(List<Segment> restored) {
+        segments.clear();
+        segments.addAll(restored);
+        resetOpenSegment();
+        count = 0;
+        for (Segment segment : restored) {
+            count += segment.count();
+        }
+    }
+
+    private void seal() {
+        if (openCount == 0) {
+            return;
+        }
+        segments.add(new Segment(openMinId, openMaxId, openCount, deflate(openBuffer.toByteArray())));
+        resetOpenSegment();
+    }
+
+    private void resetOpenSegment() {
+        openBuffer = new ByteArrayOutputStream();
+        openSegment = new DataOutputStream(openBuffer);
+        openCount = 0;
+        openMinId = Long.MAX_VALUE;
+        openMaxId = Long.MIN_VALUE;
+    }
+
+    private void decode(byte[] data, int records, Consumer<T> consumer) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            for (int i = 0; i < records; i++) {
+                consumer.accept(codec.read(in));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Segmento de arquivo corrompido", e);
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2 + 16);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+            out.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] data) {
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Segmento de arquivo corrompido", e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.dti.drone_delivery_simulator.retention;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.dti.drone_delivery_simulator.dto.DroneSummaryDTO;
+import com.dti.drone_delivery_simulator.dto.OrderSummaryDTO;
+import com.dti.drone_delivery_simulator.dto.RouteResponseDTO;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.enums.RouteStatus;
+import com.dti.drone_delivery_simulator.model.Order;
+
+@Component
+public class RetentionArchive {
+
+    public record Contents(List<CompressedArchive.Segment> orders, List<CompressedArchive.Segment> routes) {}
+
+    private static final int RECORDS_PER_SEGMENT = 4096;
+    private static final OrderPriority[] PRIORITIES = OrderPriority.values();
+    private static final OrderState[] STATES = OrderState.values();
+    private static final RouteStatus[] STATUSES = RouteStatus.values();
+
+    private final CompressedArchive<Order> orders =
+        new CompressedArchive<>(new OrderCodec(), Order::getId, RECORDS_PER_SEGMENT);
+    private final CompressedArchive<RouteResponseDTO> routes =
+        new CompressedArchive<>(new RouteCodec(), RouteResponseDTO::id, RECORDS_PER_SEGMENT);
+    private final AtomicLong routedOrders = new AtomicLong();
+
+    public void archiveOrder(Order order) {
+        orders.append(order);
+    }
+
+    public void archiveRoute(RouteResponseDTO route) {
+        routes.append(route);
+        routedOrders.addAndGet(route.orders().size());
+    }
+
+    public List<Order> findAllOrders() {
+        return orders.findAll();
+    }
+
+    public long countOrders() {
+        return orders.count();
+    }
+
+    public List<RouteResponseDTO> findAllRoutes() {
+        return routes.findAll();
+    }
+
+    public List<RouteResponseDTO> findRoutesAfter(long afterId, int limit) {
+        return routes.findAfter(afterId, limit);
+    }
+
+    public List<RouteResponseDTO> findRoutesByDrone(Long droneId) {
+        List<RouteResponseDTO> result = new ArrayList<>();
+        routes.forEach(route -> {
+            if (route.drone() != null && route.drone().id().equals(droneId)) {
+                result.add(route);
+            }
+        });
+        return result;
+    }
+
+    public long countRoutes() {
+        return routes.count();
+    }
+
+    public long countRoutedOrders() {
+        return routedOrders.get();
+    }
+
+    public long compressedBytes() {
+        return orders.compressedBytes() + routes.compressedBytes();
+    }
+
+    public Contents contents() {
+        return new Contents(orders.sealedSegments(), routes.sealedSegments());
+    }
+
+    public void restore(Contents contents) {
+        orders.restore(contents.orders());
+        routes.restore(contents.routes());
+
+        AtomicLong restoredRoutedOrders = new AtomicLong();
+        routes.forEach(route -> restoredRoutedOrders.addAndGet(route.orders().size()));
+        routedOrders.set(restoredRoutedOrders.get());
+    }
+
+    public static void write(DataOutputStream out, Contents contents) throws IOException {
+        writeSegments(out, contents.orders());
+        writeSegments(out, contents.routes());
+    }
+
+    public static Contents read(DataInputStream in) throws IOException {
+        return new Contents(readSegments(in), readSegments(in));
+    }
+
+    private static void writeSegments(DataOutputStream out, List<CompressedArchive.Segment> segments) throws IOException {
+        out.writeInt(segments.size());
+        for (CompressedArchive.Segment segment : segments) {
+            out.writeLong(segment.minId());
+            out.writeLong(segment.maxId());
+            out.writeInt(segment.count());
+            out.writeInt(segment.data().length);
+            out.write(segment.data());
+        }
+    }
+
+    private static List<CompressedArchive.Segment> readSegments(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<CompressedArchive.Segment> segments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long minId = in.readLong();
+            long maxId = in.readLong();
+            int count = in.readInt();
+            byte[] data = new byte[in.readInt()];
+            in.readFully(data);
+            segments.add(new CompressedArchive.Segment(minId, maxId, count, data));
+        }
+        return segments;
+    }
+
+    private static int ordinal(Enum<?> value) {
+        return value == null ? -1 : value.ordinal();
+    }
+
+    private static <E extends Enum<E>> E decode(E[] values, int ordinal) {
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    private static final class OrderCodec implements CompressedArchive.Codec<Order> {
+
+        @Override
+        public void write(DataOutputStream out, Order order) throws IOException {
+            out.writeLong(order.getId());
+            out.writeInt(order.getClientPositionX());
+            out.writeInt(order.getClientPositionY());
+            out.writeDouble(order.getPayloadKg());
+            out.writeByte(ordinal(order.getPriority()));
+            out.writeByte(ordinal(order.getState()));
+        }
+
+        @Override
+        public Order read(DataInputStream in) throws IOException {
+            return new Order(in.readLong(), in.readInt(), in.readInt(), in.readDouble(),
+                decode(PRIORITIES, in.readByte()), decode(STATES, in.readByte()));
+        }
+    }
+
+    private static final class RouteCodec implements CompressedArchive.Codec<RouteResponseDTO> {
+
+        @Override
+        public void write(DataOutputStream out, RouteResponseDTO route) throws IOException {
+            out.writeLong(route.id());
+            out.writeLong(route.drone().id());
+            out.writeDouble(route.drone().maxPayloadKg());
+            out.writeDouble(route.drone().maxRangeKm());
+            out.writeDouble(route.totalDistanceKm());
+            out.writeByte(ordinal(route.status()));
+            out.writeInt(route.orders().size());
+            for (OrderSummaryDTO order : route.orders()) {
+                out.writeLong(order.id());
+                out.writeInt(order.clientPositionX());
+                out.writeInt(order.clientPositionY());
+                out.writeDouble(order.payloadKg());
+                out.writeByte(ordinal(order.priority()));
+            }
+        }
+
+        @Override
+        public RouteResponseDTO read(DataInputStream in) throws IOException {
+            long id = in.readLong();
+            DroneSummaryDTO drone = new DroneSummaryDTO(in.readLong(), in.readDouble(), in.readDouble());
+            double totalDistanceKm = in.readDouble();
+            RouteStatus status = decode(STATUSES, in.readByte());
+
+            int size = in.readInt();
+            List<OrderSummaryDTO> orders = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                orders.add(new OrderSummaryDTO(in.readLong(), in.readInt(), in.readInt(), in.readDouble(),
+                    decode(PRIORITIES, in.readByte())));
+            }
+            return new RouteResponseDTO(id, drone, totalDistanceKm, status, orders);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.dti.drone_delivery_simulator.retention;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.enums.RouteStatus;
+import com.dti.drone_delivery_simulator.journal.EventJournal;
+import com.dti.drone_delivery_simulator.journal.JournalEvent;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.model.Route;
+import com.dti.drone_delivery_simulator.repository.InMemoryRouteRepository;
+import com.dti.drone_delivery_simulator.repository.OrderRepository;
+import com.dti.drone_delivery_simulator.service.RouteService;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+
+@Service
+public class RetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(RetentionService.class);
+
+    private final OrderRepository orderRepository;
+    private final InMemoryRouteRepository routeRepository;
+    private final RouteService routeService;
+    private final RetentionArchive archive;
+    private final EventJournal journal;
+    private final SimulationEngine simulationEngine;
+
+    private final boolean enabled;
+    private final long retentionAgeMs;
+    private final Map<Long, Long> deliveredSince = new ConcurrentHashMap<>();
+    private final Map<Long, Long> completedSince = new ConcurrentHashMap<>();
+
+    public RetentionService(
+            OrderRepository orderRepository,
+            InMemoryRouteRepository routeRepository,
+            RouteService routeService,
+            RetentionArchive archive,
+            EventJournal journal,
+            SimulationEngine simulationEngine,
+            @Value("${simulator.retention.enabled:true}") boolean enabled,
+            @Value("${simulator.retention.age-ms:300000}") long retentionAgeMs) {
+        this.orderRepository = orderRepository;
+        this.routeRepository = routeRepository;
+        this.routeService = routeService;
+        this.archive = archive;
+        this.journal = journal;
+        this.simulationEngine = simulationEngine;
+        this.enabled = enabled;
+        this.retentionAgeMs = retentionAgeMs;
+    }
+
+    @Scheduled(fixedDelayString = "${simulator.retention.sweep-interval-ms:30000}")
+    public void scheduledSweep() {
+        if (!enabled) {
+            return;
+        }
+        int archived = sweep(simulationEngine.now(TimeUnit.MILLISECONDS));
+        if (archived > 0) {
+            log.info("Retenção: {} registros arquivados ({} bytes compactados no arquivo).",
+                archived, archive.compressedBytes());
+        }
+    }
+
+    public void orderDelivered(Long orderId) {
+        if (enabled) {
+            deliveredSince.put(orderId, simulationEngine.now(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    public void routeCompleted(Long routeId) {
+        if (enabled) {
+            completedSince.put(routeId, simulationEngine.now(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    public int sweep(long now) {
+        int archived = 0;
+
+        for (Route route : routeRepository.findByStatus(RouteStatus.COMPLETED)) {
+            if (expired(completedSince, route.getId(), now) && archiveRoute(route.getId())) {
+                archived++;
+            }
+        }
+
+        Set<Long> routedOrderIds = new HashSet<>();
+        for (Route route : routeRepository.findAll()) {
+            if (route.getOrders() != null) {
+                route.getOrders().forEach(order -> routedOrderIds.add(order.getId()));
+            }
+        }
+
+        for (Order order : orderRepository.findByState(OrderState.DELIVERED)) {
+            if (expired(deliveredSince, order.getId(), now)
+                    && !routedOrderIds.contains(order.getId())
+                    && archiveOrder(order.getId())) {
+                archived++;
+            }
+        }
+        return archived;
+    }
+
+    public boolean archiveOrder(Long orderId) {
+        synchronized (archive) {
+            deliveredSince.remove(orderId);
+            return orderRepository.remove(orderId)
+                .map(order -> {
+                    archive.archiveOrder(order);
+                    journal.append(JournalEvent.orderArchived(orderId));
+                    return true;
+                })
+                .orElse(false);
+        }
+    }
+
+    public boolean archiveRoute(Long routeId) {
+        synchronized (archive) {
+            completedSince.remove(routeId);
+            return routeRepository.remove(routeId)
+                .map(route -> {
+                    archive.archiveRoute(routeService.toResponse(route));
+                    journal.append(JournalEvent.routeArchived(routeId));
+                    return true;
+                })
+                .orElse(false);
+        }
+    }
+
+    private boolean expired(Map<Long, Long> since, Long id, long now) {
+        return now - since.computeIfAbsent(id, key -> now) >= retentionAgeMs;
+    }
+}
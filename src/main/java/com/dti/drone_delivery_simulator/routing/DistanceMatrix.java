@@ -0,0 +1,109 @@
+package com.dti.drone_delivery_simulator.routing;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dti.drone_delivery_simulator.model.Order;
+
+@Component
+public class DistanceMatrix {
+
+    public static final int BASE = 0;
+    private static final int INITIAL_SLOTS = 64;
+    private static final int MAX_STOPS = 16_384;
+
+    private final int maxStops;
+    private final Map<Long, Integer> slots = new ConcurrentHashMap<>();
+    private final BitSet usedSlots = new BitSet();
+
+    private int[] x = new int[INITIAL_SLOTS];
+    private int[] y = new int[INITIAL_SLOTS];
+    private volatile double[] cells = new double[cellsFor(INITIAL_SLOTS)];
+
+    public DistanceMatrix(@Value("${simulator.routing.distance-matrix.max-stops:2048}") int maxStops) {
+        if (maxStops > MAX_STOPS) {
+            throw new IllegalArgumentException("Matriz de distâncias suporta no máximo " + MAX_STOPS + " paradas.");
+        }
+        this.maxStops = maxStops;
+        usedSlots.set(BASE);
+        x[BASE] = RouteCost.BASE_X;
+        y[BASE] = RouteCost.BASE_Y;
+    }
+
+    public synchronized boolean register(Order order) {
+        if (slots.containsKey(order.getId())) {
+            return true;
+        }
+        int slot = usedSlots.nextClearBit(BASE + 1);
+        if (slot > maxStops) {
+            return false;
+        }
+        if (slot >= x.length) {
+            grow(Math.min(x.length * 2, maxStops + 1));
+        }
+
+        x[slot] = order.getClientPositionX();
+        y[slot] = order.getClientPositionY();
+        double[] matrix = cells;
+        for (int other = usedSlots.nextSetBit(0); other >= 0; other = usedSlots.nextSetBit(other + 1)) {
+            matrix[cell(slot, other)] = RouteCost.distance(x[slot], y[slot], x[other], y[other]);
+        }
+        usedSlots.set(slot);
+        slots.put(order.getId(), slot);
+        return true;
+    }
+
+    public synchronized void release(Long orderId) {
+        Integer slot = slots.remove(orderId);
+        if (slot != null) {
+            usedSlots.clear(slot);
+        }
+    }
+
+    public int slotOf(Long orderId) {
+        Integer slot = slots.get(orderId);
+        return slot == null ? -1 : slot;
+    }
+
+    public int[] slotsOf(List<Order> orders) {
+        int[] resolved = new int[orders.size()];
+        for (int i = 0; i < resolved.length; i++) {
+            Integer slot = slots.get(orders.get(i).getId());
+            if (slot == null) {
+                return null;
+            }
+            resolved[i] = slot;
+        }
+        return resolved;
+    }
+
+    public double distance(int from, int to) {
+        return from == to ? 0 : cells[cell(from, to)];
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        cells = Arrays.copyOf(cells, cellsFor(capacity));
+    }
+
+    private static int cell(int first, int second) {
+        int row = Math.max(first, second);
+        int column = Math.min(first, second);
+        return row * (row - 1) / 2 + column;
+    }
+
+    private static int cellsFor(int slots) {
+        return slots * (slots - 1) / 2;
+    }
+}
@@ -0,0 +1,182 @@
+package com.dti.drone_delivery_simulator.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dti.drone_delivery_simulator.model.Order;
+
+@Component
+public class ExactRouteSolver {
+
+    private static final int MAX_STOPS = 16;
+
+    private final int maxStops;
+    private final DistanceMatrix distanceMatrix;
+    private final Map<StopSet, int[]> plans;
+
+    public ExactRouteSolver(
+            @Value("${simulator.routing.exact.max-stops:10}") int maxStops,
+            @Value("${simulator.routing.exact.cache-size:4096}") int cacheSize,
+            DistanceMatrix distanceMatrix) {
+        if (maxStops > MAX_STOPS) {
+            throw new IllegalArgumentException("Solver exato suporta no máximo " + MAX_STOPS + " paradas.");
+        }
+        this.maxStops = maxStops;
+        this.distanceMatrix = distanceMatrix;
+        this.plans = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StopSet, int[]> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public boolean supports(int stops) {
+        return stops <= maxStops;
+    }
+
+    public List<Order> solve(List<Order> orders) {
+        int size = orders.size();
+        if (size < 3) {
+            return orders;
+        }
+
+        Integer[] canonical = new Integer[size];
+        long[] coordinates = new long[size];
+        for (int i = 0; i < size; i++) {
+            canonical[i] = i;
+        }
+        Arrays.sort(canonical, (left, right) -> Long.compare(keyOf(orders.get(left)), keyOf(orders.get(right))));
+        for (int i = 0; i < size; i++) {
+            coordinates[i] = keyOf(orders.get(canonical[i]));
+        }
+
+        StopSet stopSet = new StopSet(coordinates);
+        int[] tour = plans.get(stopSet);
+        if (tour == null) {
+            int[] solved = heldKarp(stopSet, slotsOf(orders, canonical));
+            tour = plans.putIfAbsent(stopSet, solved);
+            if (tour == null) {
+                tour = solved;
+            }
+        }
+
+        List<Order> route = new ArrayList<>(size);
+        for (int stop : tour) {
+            route.add(orders.get(canonical[stop]));
+        }
+        return route;
+    }
+
+    public int cachedPlans() {
+        return plans.size();
+    }
+
+    private int[] slotsOf(List<Order> orders, Integer[] canonical) {
+        int[] registered = distanceMatrix.slotsOf(orders);
+        if (registered == null) {
+            return null;
+        }
+        int[] slots = new int[canonical.length];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = registered[canonical[i]];
+        }
+        return slots;
+    }
+
+    private int[] heldKarp(StopSet stopSet, int[] slots) {
+        long[] coordinates = stopSet.coordinates();
+        int size = coordinates.length;
+        int[] x = new int[size];
+        int[] y = new int[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = (int) (coordinates[i] >> 32);
+            y[i] = (int) coordinates[i];
+        }
+
+        double[] legs = new double[(size + 1) * size];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                legs[from * size + to] = slots != null
+                    ? distanceMatrix.distance(slots[from], slots[to])
+                    : RouteCost.distance(x[from], y[from], x[to], y[to]);
+            }
+            legs[size * size + from] = slots != null
+                ? distanceMatrix.distance(DistanceMatrix.BASE, slots[from])
+                : RouteCost.fromBase(x[from], y[from]);
+        }
+
+        int full = (1 << size) - 1;
+        double[] cost = new double[(full + 1) * size];
+        byte[] parent = new byte[(full + 1) * size];
+        Arrays.fill(cost, Double.MAX_VALUE);
+        for (int last = 0; last < size; last++) {
+            cost[(1 << last) * size + last] = legs[size * size + last];
+            parent[(1 << last) * size + last] = -1;
+        }
+
+        for (int mask = 1; mask <= full; mask++) {
+            for (int last = 0; last < size; last++) {
+                double current = cost[mask * size + last];
+                if ((mask & (1 << last)) == 0 || current == Double.MAX_VALUE) {
+                    continue;
+                }
+                for (int next = 0; next < size; next++) {
+                    if ((mask & (1 << next)) != 0) {
+                        continue;
+                    }
+                    int slot = (mask | (1 << next)) * size + next;
+                    double candidate = current + legs[last * size + next];
+                    if (candidate < cost[slot]) {
+                        cost[slot] = candidate;
+                        parent[slot] = (byte) last;
+                    }
+                }
+            }
+        }
+
+        int last = 0;
+        double best = Double.MAX_VALUE;
+        for (int candidate = 0; candidate < size; candidate++) {
+            double total = cost[full * size + candidate] + legs[size * size + candidate];
+            if (total < best) {
+                best = total;
+                last = candidate;
+            }
+        }
+
+        int[] tour = new int[size];
+        int mask = full;
+        for (int position = size - 1; position >= 0; position--) {
+            tour[position] = last;
+            int previous = parent[mask * size + last];
+            mask &= ~(1 << last);
+            last = previous;
+        }
+        return tour;
+    }
+
+    private static long keyOf(Order order) {
+        return (long) order.getClientPositionX() << 32 | (order.getClientPositionY() & 0xFFFFFFFFL);
+    }
+
+    private record StopSet(long[] coordinates) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof StopSet stopSet && Arrays.equals(coordinates, stopSet.coordinates);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(coordinates);
+        }
+    }
+}
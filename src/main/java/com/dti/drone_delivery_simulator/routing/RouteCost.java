@@ -0,0 +1,57 @@
+package com.dti.drone_delivery_simulator.routing;
+
+import java.util.List;
+
+import com.dti.drone_delivery_simulator.model.Order;
+
+public final class RouteCost {
+
+    public static final int BASE_X = 0;
+    public static final int BASE_Y = 0;
+
+    private RouteCost() {
+    }
+
+    public static double distance(int x1, int y1, int x2, int y2) {
+        long deltaX = (long) x2 - x1;
+        long deltaY = (long) y2 - y1;
+        return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+    }
+
+    public static double fromBase(int x, int y) {
+        return distance(BASE_X, BASE_Y, x, y);
+    }
+
+    public static double tourKm(List<Order> route) {
+        return tourKm(route, BASE_X, BASE_Y);
+    }
+
+    public static double tourKm(List<Order> route, int startX, int startY) {
+        if (route.isEmpty()) {
+            return 0;
+        }
+
+        double total = 0;
+        int previousX = startX;
+        int previousY = startY;
+        for (int i = 0, size = route.size(); i < size; i++) {
+            Order order = route.get(i);
+            total += distance(previousX, previousY, order.getClientPositionX(), order.getClientPositionY());
+            previousX = order.getClientPositionX();
+            previousY = order.getClientPositionY();
+        }
+        return total + distance(previousX, previousY, BASE_X, BASE_Y);
+    }
+
+    public static double tourKm(int[] x, int[] y, int stops, int startX, int startY) {
+        if (stops == 0) {
+            return 0;
+        }
+
+        double total = distance(startX, startY, x[0], y[0]);
+        for (int i = 1; i < stops; i++) {
+            total += distance(x[i - 1], y[i - 1], x[i], y[i]);
+        }
+        return total + distance(x[stops - 1], y[stops - 1], BASE_X, BASE_Y);
+    }
+}
@@ -0,0 +1,168 @@
+package com.dti.drone_delivery_simulator.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dti.drone_delivery_simulator.model.Order;
+
+@Component
+public class RouteImprover {
+
+    public static final long NO_TIME_BUDGET = -1;
+
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SEGMENT = 3;
+
+    private final int maxMoves;
+    private final long timeBudgetNanos;
+    private final DistanceMatrix distanceMatrix;
+
+    public RouteImprover(
+            @Value("${simulator.routing.local-search.max-moves:1000}") int maxMoves,
+            @Value("${simulator.routing.local-search.time-budget-ms:5}") long timeBudgetMs,
+            DistanceMatrix distanceMatrix) {
+        this.maxMoves = maxMoves;
+        this.timeBudgetNanos = timeBudgetMs < 0 ? NO_TIME_BUDGET : TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+        this.distanceMatrix = distanceMatrix;
+    }
+
+    public List<Order> improve(List<Order> route) {
+        int size = route.size();
+        if (size < 3 || maxMoves <= 0 || timeBudgetNanos == 0) {
+            return route;
+        }
+
+        Tour tour = new Tour(route, distanceMatrix);
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        int moves = 0;
+        while (moves < maxMoves && (timeBudgetNanos == NO_TIME_BUDGET || System.nanoTime() < deadline)
+                && (tour.twoOpt() || tour.orOpt())) {
+            moves++;
+        }
+
+        List<Order> improved = new ArrayList<>(size);
+        for (int stop : tour.stops) {
+            improved.add(route.get(stop));
+        }
+        return improved;
+    }
+
+    private static final class Tour {
+
+        private final int[] x;
+        private final int[] y;
+        private final DistanceMatrix distanceMatrix;
+        private final int[] slots;
+        private int[] stops;
+        private int[] scratch;
+
+        Tour(List<Order> route, DistanceMatrix distanceMatrix) {
+            int size = route.size();
+            x = new int[size + 1];
+            y = new int[size + 1];
+            stops = new int[size];
+            scratch = new int[size];
+            for (int i = 0; i < size; i++) {
+                x[i] = route.get(i).getClientPositionX();
+                y[i] = route.get(i).getClientPositionY();
+                stops[i] = i;
+            }
+            x[size] = RouteCost.BASE_X;
+            y[size] = RouteCost.BASE_Y;
+
+            this.distanceMatrix = distanceMatrix;
+            int[] registered = distanceMatrix.slotsOf(route);
+            if (registered != null) {
+                slots = Arrays.copyOf(registered, size + 1);
+                slots[size] = DistanceMatrix.BASE;
+            } else {
+                slots = null;
+            }
+        }
+
+        private int at(int position) {
+            return position < 0 || position >= stops.length ? x.length - 1 : stops[position];
+        }
+
+        private double distance(int from, int to) {
+            return slots != null
+                ? distanceMatrix.distance(slots[from], slots[to])
+                : RouteCost.distance(x[from], y[from], x[to], y[to]);
+        }
+
+        boolean twoOpt() {
+            int size = stops.length;
+            for (int i = 0; i < size - 1; i++) {
+                int before = at(i - 1);
+                int first = stops[i];
+                for (int j = i + 1; j < size; j++) {
+                    int last = stops[j];
+                    int after = at(j + 1);
+                    double delta = distance(before, last) + distance(first, after)
+                        - distance(before, first) - distance(last, after);
+                    if (delta < -EPSILON) {
+                        for (int low = i, high = j; low < high; low++, high--) {
+                            int swap = stops[low];
+                            stops[low] = stops[high];
+                            stops[high] = swap;
+                        }
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        boolean orOpt() {
+            int size = stops.length;
+            for (int length = 1; length <= MAX_SEGMENT && length < size; length++) {
+                for (int i = 0; i + length <= size; i++) {
+                    int head = stops[i];
+                    int tail = stops[i + length - 1];
+                    int before = at(i - 1);
+                    int after = at(i + length);
+                    double removal = distance(before, head) + distance(tail, after) - distance(before, after);
+
+                    for (int j = -1; j < size; j++) {
+                        if (j >= i - 1 && j < i + length) {
+                            continue;
+                        }
+                        int from = at(j);
+                        int to = at(j + 1);
+                        double edge = distance(from, to);
+                        double forward = distance(from, head) + distance(tail, to) - edge;
+                        double reversed = distance(from, tail) + distance(head, to) - edge;
+                        if (removal - Math.min(forward, reversed) > EPSILON) {
+                            move(i, length, j, reversed < forward);
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void move(int start, int length, int edge, boolean reverse) {
+            int size = stops.length;
+            int written = 0;
+            for (int position = -1; position < size; position++) {
+                if (position >= 0 && (position < start || position >= start + length)) {
+                    scratch[written++] = stops[position];
+                }
+                if (position == edge) {
+                    for (int k = 0; k < length; k++) {
+                        scratch[written++] = stops[reverse ? start + length - 1 - k : start + k];
+                    }
+                }
+            }
+            int[] swap = stops;
+            stops = scratch;
+            scratch = swap;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.dti.drone_delivery_simulator.service;
+
+import com.dti.drone_delivery_simulator.model.Order;
+
+public interface DeliveryListener {
+
+    DeliveryListener NONE = new DeliveryListener() { };
+
+    default void delivered(Order order) {
+    }
+
+    default void landed(Long droneId, long flightNanos) {
+    }
+}
@@ -1,22 +1,33 @@
 package com.dti.drone_delivery_simulator.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import com.dti.drone_delivery_simulator.dispatch.DispatchTrigger;
 import com.dti.drone_delivery_simulator.enums.DroneState;
 import com.dti.drone_delivery_simulator.enums.OrderState;
 import com.dti.drone_delivery_simulator.enums.RouteStatus;
+import com.dti.drone_delivery_simulator.exception.DroneStateConflictException;
 import com.dti.drone_delivery_simulator.model.Drone;
 import com.dti.drone_delivery_simulator.model.Order;
 import com.dti.drone_delivery_simulator.model.Route;
 import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
-import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
-
+import com.dti.drone_delivery_simulator.repository.OrderRepository;
+import com.dti.drone_delivery_simulator.retention.RetentionService;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -26,16 +37,42 @@ public class DeliveryService {
     private static final Logger log = LoggerFactory.getLogger(DeliveryService.class);
 
     private final InMemoryDroneRepository droneRepository;
-    private final InMemoryOrderRepository orderRepository;
+    private final OrderRepository orderRepository;
     private final RouteService routeService;
+    private final RetentionService retentionService;
     private final OrderAllocationService allocationService;
+    private final DispatchTrigger dispatchTrigger;
+    private final DistanceMatrix distanceMatrix;
+    private final SimulationEngine simulationEngine;
+    private final MeterRegistry meterRegistry;
+
+    private Timer allocationCycleTimer;
+    private volatile DeliveryListener deliveryListener = DeliveryListener.NONE;
+
+    @PostConstruct
+    public void registerDispatch() {
+        this.allocationCycleTimer = Timer.builder("simulator.allocation.cycle")
+            .description("Duração de cada ciclo de alocação de pedidos pendentes")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.dispatchTrigger.onDispatch(this::processOrders);
+    }
+
+    public void onDelivery(DeliveryListener listener) {
+        this.deliveryListener = listener;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void dispatchRecoveredOrders() {
+        this.dispatchTrigger.signal();
+    }
 
     public void processOrders() {
-        List<Drone> drones = this.allocationService.allocatePendingOrders();
-        List<Order> pendingOrders = this.orderRepository.findPendingOrders();
+        List<Drone> drones = this.allocationCycleTimer.record(this.allocationService::allocatePendingOrders);
+        long pendingOrders = this.orderRepository.countByState(OrderState.PENDING);
 
-        if (drones.isEmpty() && !pendingOrders.isEmpty()) {
-            log.info("Nenhum drone disponível para alocar {} pedidos pendentes.", pendingOrders.size());
+        if (drones.isEmpty() && pendingOrders > 0) {
+            log.info("Nenhum drone disponível para alocar {} pedidos pendentes.", pendingOrders);
             return;
         }
 
@@ -43,91 +80,117 @@ public class DeliveryService {
             List<Order> ordersToDeliver = drone.getOrders();
             if (!ordersToDeliver.isEmpty()) {
                 log.info("Drone {} alocado com {} pedido(s) para entrega.", drone.getId(), ordersToDeliver.size());
-                this.simulateDelivery(drone.getId(), ordersToDeliver);
+                try {
+                    this.simulateDelivery(drone.getId());
+                } catch (DroneStateConflictException e) {
+                    log.warn("Drone {} não pôde iniciar a entrega: {}", drone.getId(), e.getMessage());
+                }
             }
         }
     }
 
-    private void simulateDelivery(Long droneId, List<Order> orders) {
-        new Thread(() -> {
-            try {
-                Drone drone = droneRepository.findById(droneId)
-                    .orElseThrow(() -> new IllegalArgumentException("Drone não encontrado para entrega"));
+    private void simulateDelivery(Long droneId) {
+        Drone drone = droneRepository.transition(droneId, DroneState.IDLE, DroneState.LOADING);
+        log.info("Drone {} está carregando os pedidos...", droneId);
+        simulationEngine.schedule(1, TimeUnit.SECONDS, new Flight(drone, new ArrayList<>(drone.getOrders()))::plan);
+    }
 
-                droneRepository.advanceDroneState(drone.getId());
-                log.info("Drone {} está carregando os pedidos...", drone.getId());
-                sleepSeconds(1);
+    private class Flight {
+
+        private final Drone drone;
+        private final Long droneId;
+        private final long departedAt = simulationEngine.now(TimeUnit.NANOSECONDS);
+        private List<Order> stops;
+        private Route route;
+        private int next;
+        private int currentX;
+        private int currentY;
+
+        Flight(Drone drone, List<Order> stops) {
+            this.drone = drone;
+            this.droneId = drone.getId();
+            this.stops = stops;
+        }
 
-                List<Order> optimizedOrders = routeService.getOptimizedRoute(orders);
+        void plan() {
+            stops = routeService.getOptimizedRoute(stops);
 
-                Route route = routeService.createRoute(drone, optimizedOrders);
-                routeService.updateStatusRoute(route.getId(), RouteStatus.PLANNED);
+            route = routeService.createRoute(drone, stops);
+            routeService.updateStatusRoute(route.getId(), RouteStatus.PLANNED);
 
-                int currentX = drone.getPositionX();
-                int currentY = drone.getPositionY();
+            currentX = drone.getPositionX();
+            currentY = drone.getPositionY();
 
-                droneRepository.advanceDroneState(droneId);
+            droneRepository.transition(droneId, DroneState.LOADING, DroneState.IN_FLIGHT);
+            departToNextStop();
+        }
 
-                for (Order order : optimizedOrders) {
-                    double travelDistance = routeService.calculateDistance(
-                        currentX, currentY, order.getClientPositionX(), order.getClientPositionY());
+        void departToNextStop() {
+            if (next == stops.size()) {
+                returnToBase();
+                return;
+            }
+            Order order = stops.get(next);
+            double travelDistance = RouteCost.distance(
+                currentX, currentY, order.getClientPositionX(), order.getClientPositionY());
 
-                    log.info("Drone {} se deslocando de ({}, {}) para ({}, {})",
-                        droneId, currentX, currentY, order.getClientPositionX(), order.getClientPositionY());
+            log.info("Drone {} se deslocando de ({}, {}) para ({}, {})",
+                droneId, currentX, currentY, order.getClientPositionX(), order.getClientPositionY());
 
-                    order.setState(OrderState.ON_ROUTE);
-                    this.orderRepository.update(order);
-                    routeService.updateStatusRoute(route.getId(), RouteStatus.IN_PROGRESS);
+            order.setState(OrderState.ON_ROUTE);
+            orderRepository.update(order);
+            routeService.updateStatusRoute(route.getId(), RouteStatus.IN_PROGRESS);
 
-                    drone.setStatus(DroneState.IN_FLIGHT);
-                    log.info("Drone {} em voo para entregar pedido {}...", droneId, order.getId());
-                    sleepSeconds((long) travelDistance);
+            if (next > 0) {
+                droneRepository.transition(droneId, DroneState.DELIVERING, DroneState.IN_FLIGHT);
+            }
+            log.info("Drone {} em voo para entregar pedido {}...", droneId, order.getId());
+            simulationEngine.schedule((long) travelDistance, TimeUnit.SECONDS, this::arrive);
+        }
 
-                    drone.setPositionX(order.getClientPositionX());
-                    drone.setPositionY(order.getClientPositionY());
+        void arrive() {
+            Order order = stops.get(next);
+            droneRepository.moveDrone(droneId, order.getClientPositionX(), order.getClientPositionY());
 
-                    drone.setStatus(DroneState.DELIVERING);
-                    log.info("Drone {} entregando pedido {} no destino ({}, {}).", droneId, order.getId(), drone.getPositionX(), drone.getPositionY());
-                    sleepSeconds(1);
+            Drone drone = droneRepository.transition(droneId, DroneState.IN_FLIGHT, DroneState.DELIVERING);
+            log.info("Drone {} entregando pedido {} no destino ({}, {}).", droneId, order.getId(), drone.getPositionX(), drone.getPositionY());
+            simulationEngine.schedule(1, TimeUnit.SECONDS, this::deliver);
+        }
 
-                    order.setState(OrderState.DELIVERED);
-                    this.orderRepository.update(order);
-                    log.info("Pedido {} entregue com sucesso!", order.getId());
+        void deliver() {
+            Order order = stops.get(next++);
+            order.setState(OrderState.DELIVERED);
+            orderRepository.update(order);
+            retentionService.orderDelivered(order.getId());
+            log.info("Pedido {} entregue com sucesso!", order.getId());
+            distanceMatrix.release(order.getId());
+            deliveryListener.delivered(order);
 
-                    droneRepository.removeOrderFromDrone(droneId, order.getId());
+            droneRepository.removeOrderFromDrone(droneId, order.getId());
 
-                    currentX = order.getClientPositionX();
-                    currentY = order.getClientPositionY();
-                }
-                
-                droneRepository.advanceDroneState(droneId);
-                
-                routeService.updateStatusRoute(route.getId(), RouteStatus.COMPLETED);
-
-                double returnDistance = routeService.calculateDistance(currentX, currentY, 0, 0);
-                log.info("Drone {} retornando à base.", droneId);
-                sleepSeconds((long) returnDistance);
-
-                droneRepository.advanceDroneState(droneId);
-                drone.setPositionX(0);
-                drone.setPositionY(0);
-                log.info("Drone {} voltou à base e está disponível (IDLE). Entrega concluída.", droneId);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Simulação interrompida para o drone {}: {}", droneId, e.getMessage());
-            } catch (Exception e) {
-                log.error("Erro inesperado durante a entrega com drone {}: {}", droneId, e.getMessage(), e);
-            }
-        }).start();
-    }
+            currentX = order.getClientPositionX();
+            currentY = order.getClientPositionY();
+            departToNextStop();
+        }
 
-    @Scheduled(fixedRate = 10000)
-    private void checkPendingOrders() {
-        log.debug("Verificando novos pedidos a cada 10 segundos...");
-        this.processOrders();
-    }
+        void returnToBase() {
+            droneRepository.transition(droneId, DroneState.DELIVERING, DroneState.RETURNING);
+
+            routeService.updateStatusRoute(route.getId(), RouteStatus.COMPLETED);
+            retentionService.routeCompleted(route.getId());
 
-    private void sleepSeconds(long seconds) throws InterruptedException {
-        TimeUnit.SECONDS.sleep(seconds);
+            double returnDistance = RouteCost.distance(currentX, currentY, RouteCost.BASE_X, RouteCost.BASE_Y);
+            log.info("Drone {} retornando à base.", droneId);
+            simulationEngine.schedule((long) returnDistance, TimeUnit.SECONDS, this::land);
+        }
+
+        void land() {
+            droneRepository.moveDrone(droneId, RouteCost.BASE_X, RouteCost.BASE_Y);
+            droneRepository.transition(droneId, DroneState.RETURNING, DroneState.IDLE);
+            log.info("Drone {} voltou à base e está disponível (IDLE). Entrega concluída em t={}s de simulação.",
+                droneId, simulationEngine.now(TimeUnit.SECONDS));
+            deliveryListener.landed(droneId, simulationEngine.now(TimeUnit.NANOSECONDS) - departedAt);
+            dispatchTrigger.signal();
+        }
     }
-}
\ No newline at end of file
+}
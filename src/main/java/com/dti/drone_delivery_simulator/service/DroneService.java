@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 import com.dti.drone_delivery_simulator.dto.DroneStatusResponseDTO;
+import com.dti.drone_delivery_simulator.model.FleetEnvelope;
 import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -26,4 +27,8 @@ public class DroneService {
             ))
             .collect(Collectors.toList());
     }
+
+    public FleetEnvelope getCapabilityEnvelope() {
+        return this.droneRepository.capabilityEnvelope();
+    }
 }
@@ -1,16 +1,27 @@
 package com.dti.drone_delivery_simulator.service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import com.dti.drone_delivery_simulator.allocation.AllocationStrategy;
+import com.dti.drone_delivery_simulator.allocation.DroneAssignment;
+import com.dti.drone_delivery_simulator.allocation.PartitionedAllocator;
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
 import com.dti.drone_delivery_simulator.enums.DroneState;
 import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.exception.DroneNotAvailableException;
+import com.dti.drone_delivery_simulator.exception.DroneStateConflictException;
 import com.dti.drone_delivery_simulator.model.Drone;
 import com.dti.drone_delivery_simulator.model.Order;
 import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
-import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+import com.dti.drone_delivery_simulator.repository.OrderRepository;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,49 +29,73 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OrderAllocationService {
 
-    private final InMemoryOrderRepository orderRepository;
+    static final int REACH_FILTER_MIN_ORDERS = 256;
+
+    private static final Logger log = LoggerFactory.getLogger(OrderAllocationService.class);
+
+    private final OrderRepository orderRepository;
     private final InMemoryDroneRepository droneRepository;
-    private final RouteService routeService;
+    private final DispatchQueue dispatchQueue;
+    private final PartitionedAllocator partitionedAllocator;
+    private final AllocationStrategy allocationStrategy;
 
     public List<Drone> allocatePendingOrders() {
-        List<Order> pendingOrders = this.orderRepository.findPendingOrders();
         List<Drone> availableDrones = this.droneRepository.findByState(DroneState.IDLE);
+        if (availableDrones.isEmpty()) {
+            return availableDrones;
+        }
 
-        for (Drone drone : availableDrones) {
-            List<Order> allocatedToThisDrone = new ArrayList<>();
+        List<Order> queuedOrders = this.withinFleetReach(availableDrones, this.dispatchQueue.inDispatchOrder());
+        List<DroneAssignment> assignments = this.partitionedAllocator.shouldPartition(availableDrones.size(), queuedOrders.size())
+            ? this.partitionedAllocator.plan(availableDrones, queuedOrders, this.allocationStrategy::plan)
+            : this.allocationStrategy.plan(availableDrones, queuedOrders);
+
+        for (DroneAssignment assignment : assignments) {
+            try {
+                for (Order order : assignment.inTourOrder()) {
+                    this.droneRepository.addOrderToDrone(assignment.drone().getId(), order);
 
-            for (Order order : pendingOrders) {
-                if (this.isCompatible(drone, order)) {
-                    this.droneRepository.addOrderToDrone(drone.getId(), order);
-                    
                     order.setState(OrderState.ALLOCATED);
                     this.orderRepository.update(order);
-                    allocatedToThisDrone.add(order);
+                    this.dispatchQueue.markDispatched(order);
                 }
+            } catch (DroneNotAvailableException | DroneStateConflictException e) {
+                log.warn("Drone {} deixou de estar disponível durante a alocação; pedidos restantes continuam na fila.",
+                    assignment.drone().getId());
             }
-            pendingOrders.removeAll(allocatedToThisDrone);
         }
-        return availableDrones;
-    }
 
-    private boolean isCompatible(Drone drone, Order order) {
-        return hasAvailablePayload(drone, order) && hasSufficientRange(drone, order);
+        List<Drone> allocated = new ArrayList<>(availableDrones.size());
+        for (Drone drone : availableDrones) {
+            allocated.add(this.droneRepository.findById(drone.getId()).orElse(drone));
+        }
+        return allocated;
     }
 
-    private boolean hasAvailablePayload(Drone drone, Order order) {
-        double currentPayload = drone.getOrders().stream()
-                .mapToDouble(Order::getPayloadKg)
-                .sum();
-
-        double totalPayload = currentPayload + order.getPayloadKg();
-        return totalPayload <= drone.getMaxPayloadKg();
-    }
+    private List<Order> withinFleetReach(List<Drone> drones, List<Order> queuedOrders) {
+        if (queuedOrders.size() < REACH_FILTER_MIN_ORDERS) {
+            return queuedOrders;
+        }
 
-    private boolean hasSufficientRange(Drone drone, Order order) {
-        List<Order> simulatedOrders = new ArrayList<>(drone.getOrders());
-        simulatedOrders.add(order);
+        double reachKm = 0;
+        for (Drone drone : drones) {
+            reachKm = Math.max(reachKm, drone.getMaxRangeKm() / 2);
+        }
+        List<Order> reachable = this.orderRepository.findPendingWithinRadius(RouteCost.BASE_X, RouteCost.BASE_Y, reachKm);
+        if (reachable.size() >= queuedOrders.size()) {
+            return queuedOrders;
+        }
 
-        double totalDistance = routeService.calculateRouteDistance(simulatedOrders, 0, 0);
-        return totalDistance <= drone.getMaxRangeKm();
+        Set<Long> reachableIds = new HashSet<>(reachable.size() * 2);
+        for (Order order : reachable) {
+            reachableIds.add(order.getId());
+        }
+        List<Order> candidates = new ArrayList<>(reachable.size());
+        for (Order order : queuedOrders) {
+            if (reachableIds.contains(order.getId())) {
+                candidates.add(order);
+            }
+        }
+        return candidates;
     }
 }
\ No newline at end of file
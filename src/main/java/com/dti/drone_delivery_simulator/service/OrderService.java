@@ -1,15 +1,21 @@
 package com.dti.drone_delivery_simulator.service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.stereotype.Service;
 
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.dispatch.DispatchTrigger;
 import com.dti.drone_delivery_simulator.dto.OrderRequestDTO;
 import com.dti.drone_delivery_simulator.enums.OrderState;
 import com.dti.drone_delivery_simulator.exception.OrderPayloadException;
 import com.dti.drone_delivery_simulator.model.Order;
-import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+import com.dti.drone_delivery_simulator.repository.OrderRepository;
+import com.dti.drone_delivery_simulator.retention.RetentionArchive;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,9 +23,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OrderService {
     
-    private final InMemoryOrderRepository orderRepository;
+    private final OrderRepository orderRepository;
     private final DroneService droneService;
     private final RouteService routeService;
+    private final RetentionArchive retentionArchive;
+    private final DispatchQueue dispatchQueue;
+    private final DispatchTrigger dispatchTrigger;
+    private final DistanceMatrix distanceMatrix;
     private final AtomicLong idGenerator = new AtomicLong(1);
 
     public Order createOrder(OrderRequestDTO dto) {
@@ -27,15 +37,8 @@ public class OrderService {
             throw new OrderPayloadException("Peso deve ser maior que zero.");
         }
 
-        boolean isDeliverable = droneService.getAllDrones().stream()
-            .anyMatch(drone -> {
-                double distance = routeService.calculateDistance(
-                    0, 0,
-                    dto.clientPositionX(), dto.clientPositionY()
-                );
-                return drone.maxPayloadKg() >= dto.payloadKg()
-                    && drone.maxRangeKm() >= distance * 2;
-            });
+        double distance = routeService.calculateDistance(0, 0, dto.clientPositionX(), dto.clientPositionY());
+        boolean isDeliverable = droneService.getCapabilityEnvelope().admits(dto.payloadKg(), distance);
 
         OrderState orderState = isDeliverable ? OrderState.PENDING : OrderState.RECUSED;
 
@@ -49,11 +52,37 @@ public class OrderService {
         );
 
         Order savedOrder = this.orderRepository.save(order);
+        if (orderState == OrderState.PENDING) {
+            this.distanceMatrix.register(savedOrder);
+            this.dispatchQueue.enqueue(savedOrder);
+            this.dispatchTrigger.signal();
+        }
 
         return savedOrder;
     }
 
     public List<Order> findAll(){
-        return this.orderRepository.findAll();
+        List<Order> archived = this.retentionArchive.findAllOrders();
+        if (archived.isEmpty()) {
+            return this.orderRepository.findAll();
+        }
+
+        List<Order> orders = new ArrayList<>(archived);
+        orders.addAll(this.orderRepository.findAll());
+        orders.sort(Comparator.comparing(Order::getId));
+        return orders;
+    }
+
+    public long countByState(OrderState state) {
+        long archived = state == OrderState.DELIVERED ? this.retentionArchive.countOrders() : 0;
+        return this.orderRepository.countByState(state) + archived;
+    }
+
+    public long peekNextId() {
+        return this.idGenerator.get();
+    }
+
+    public void resumeIdsAfter(long lastId) {
+        this.idGenerator.accumulateAndGet(lastId + 1, Math::max);
     }
 }
\ No newline at end of file
@@ -10,19 +10,31 @@ import com.dti.drone_delivery_simulator.dto.DroneSummaryDTO;
 import com.dti.drone_delivery_simulator.dto.OrderSummaryDTO;
 import com.dti.drone_delivery_simulator.dto.RouteResponseDTO;
 import com.dti.drone_delivery_simulator.enums.RouteStatus;
+import com.dti.drone_delivery_simulator.exception.InvalidPageRequestException;
 import com.dti.drone_delivery_simulator.exception.OrderNotFoundException;
 import com.dti.drone_delivery_simulator.model.Drone;
 import com.dti.drone_delivery_simulator.model.Order;
 import com.dti.drone_delivery_simulator.model.Route;
 import com.dti.drone_delivery_simulator.repository.InMemoryRouteRepository;
+import com.dti.drone_delivery_simulator.repository.SpatialOrderIndex;
+import com.dti.drone_delivery_simulator.retention.RetentionArchive;
+import com.dti.drone_delivery_simulator.routing.ExactRouteSolver;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+import com.dti.drone_delivery_simulator.routing.RouteImprover;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class RouteService {
+
+    private static final int SPATIAL_ROUTE_THRESHOLD = 32;
+    public static final int MAX_PAGE_SIZE = 500;
     
     private final InMemoryRouteRepository routeRepository;
+    private final RetentionArchive retentionArchive;
+    private final RouteImprover routeImprover;
+    private final ExactRouteSolver exactRouteSolver;
 
     public Route createRoute(Drone drone, List<Order> orders) {
         if (orders.isEmpty()) {
@@ -42,67 +54,105 @@ public class RouteService {
     }
 
     public List<RouteResponseDTO> findAllRoutes(){
-        return routeRepository.findAll().stream()
-        .map(route -> {
-
-            DroneSummaryDTO droneDTO = new DroneSummaryDTO(
-                route.getDrone().getId(),
-                route.getDrone().getMaxPayloadKg(),
-                route.getDrone().getMaxRangeKm()
-            );
-
-            List<OrderSummaryDTO> ordersDTO = route.getOrders().stream()
-                .map(order -> new OrderSummaryDTO(
-                    order.getId(),
-                    order.getClientPositionX(),
-                    order.getClientPositionY(),
-                    order.getPayloadKg(),
-                    order.getPriority()
-                ))
-                .toList();
-
-            return new RouteResponseDTO(
-                route.getId(),
-                droneDTO,
-                route.getTotalDistanceKm(),
-                route.getStatus(),
-                ordersDTO
-            );
-        })
-        .toList();
+        return withArchived(retentionArchive.findAllRoutes(), toResponse(routeRepository.findAll()), Integer.MAX_VALUE);
     }
 
-    public double calculateRouteDistance(List<Order> orders, int startX, int startY) {
-        if (orders.isEmpty()) return 0;
-
-        orders = orders.stream()
-                .sorted(Comparator.comparingDouble(order ->
-                        calculateDistance(startX, startY, order.getClientPositionX(), order.getClientPositionY())))
-                .toList();
-        
-        double totalDistance = 0;
-        int previousX = startX;
-        int previousY = startY;
-
-        for (Order order : orders) {
-            totalDistance += calculateDistance(previousX, previousY, order.getClientPositionX(), order.getClientPositionY());
-            previousX = order.getClientPositionX();
-            previousY = order.getClientPositionY();
+    public List<RouteResponseDTO> findRoutesPage(Long afterId, int requestedLimit) {
+        if (requestedLimit <= 0) {
+            throw new InvalidPageRequestException("Limite da página deve ser maior que zero.");
         }
-        
-        totalDistance += calculateDistance(previousX, previousY, 0, 0);
+        int limit = Math.min(requestedLimit, MAX_PAGE_SIZE);
+        List<RouteResponseDTO> archived = retentionArchive.findRoutesAfter(afterId == null ? Long.MIN_VALUE : afterId, limit);
+        return withArchived(archived, toResponse(routeRepository.findPage(afterId, limit)), limit);
+    }
 
-        return totalDistance;
+    public List<RouteResponseDTO> findRoutesByStatus(RouteStatus status) {
+        List<RouteResponseDTO> live = toResponse(routeRepository.findByStatus(status));
+        if (status != RouteStatus.COMPLETED) {
+            return live;
+        }
+        return withArchived(retentionArchive.findAllRoutes(), live, Integer.MAX_VALUE);
     }
 
-    public double calculateDistance(int x1, int y1, int x2, int y2) {
-        int deltaX = x2 - x1;
-        int deltaY = y2 - y1;
+    public List<RouteResponseDTO> findRoutesByDrone(Long droneId) {
+        return withArchived(retentionArchive.findRoutesByDrone(droneId),
+            toResponse(routeRepository.findByDroneId(droneId)), Integer.MAX_VALUE);
+    }
+
+    public long countRoutes() {
+        return routeRepository.count() + retentionArchive.countRoutes();
+    }
+
+    public long countRoutedOrders() {
+        return routeRepository.countRoutedOrders() + retentionArchive.countRoutedOrders();
+    }
+
+    private List<RouteResponseDTO> withArchived(List<RouteResponseDTO> archived, List<RouteResponseDTO> live, int limit) {
+        if (archived.isEmpty()) {
+            return live;
+        }
+
+        List<RouteResponseDTO> merged = new ArrayList<>(archived.size() + live.size());
+        merged.addAll(archived);
+        merged.addAll(live);
+        merged.sort(Comparator.comparing(RouteResponseDTO::id));
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    private List<RouteResponseDTO> toResponse(List<Route> routes) {
+        return routes.stream()
+            .map(this::toResponse)
+            .toList();
+    }
+
+    public RouteResponseDTO toResponse(Route route) {
+        DroneSummaryDTO droneDTO = new DroneSummaryDTO(
+            route.getDrone().getId(),
+            route.getDrone().getMaxPayloadKg(),
+            route.getDrone().getMaxRangeKm()
+        );
+
+        List<OrderSummaryDTO> ordersDTO = route.getOrders().stream()
+            .map(order -> new OrderSummaryDTO(
+                order.getId(),
+                order.getClientPositionX(),
+                order.getClientPositionY(),
+                order.getPayloadKg(),
+                order.getPriority()
+            ))
+            .toList();
+
+        return new RouteResponseDTO(
+            route.getId(),
+            droneDTO,
+            route.getTotalDistanceKm(),
+            route.getStatus(),
+            ordersDTO
+        );
+    }
 
-        return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+    public double calculateRouteDistance(List<Order> orders, int startX, int startY) {
+        return RouteCost.tourKm(orders, startX, startY);
+    }
+
+    public double calculateDistance(int x1, int y1, int x2, int y2) {
+        return RouteCost.distance(x1, y1, x2, y2);
     }
 
     public List<Order> getOptimizedRoute(List<Order> orders) {
+        if (exactRouteSolver.supports(orders.size())) {
+            return exactRouteSolver.solve(orders);
+        }
+
+        List<Order> nearestNeighbour = orders.size() > SPATIAL_ROUTE_THRESHOLD
+            ? getNearestNeighbourRouteIndexed(orders)
+            : getNearestNeighbourRoute(orders);
+        List<Order> improved = routeImprover.improve(nearestNeighbour);
+        return RouteCost.tourKm(improved) > RouteCost.tourKm(orders) ? orders : improved;
+    }
+
+    private List<Order> getNearestNeighbourRoute(List<Order> orders) {
+
         int currentX = 0;
         int currentY = 0;
 
@@ -131,4 +181,23 @@ public class RouteService {
 
         return sortedOrders;
     }
+
+    private List<Order> getNearestNeighbourRouteIndexed(List<Order> orders) {
+        SpatialOrderIndex index = new SpatialOrderIndex();
+        orders.forEach(index::add);
+
+        List<Order> sortedOrders = new ArrayList<>(orders.size());
+        int currentX = 0;
+        int currentY = 0;
+
+        while (index.size() > 0) {
+            Order nextOrder = index.findNearest(currentX, currentY).orElseThrow();
+            sortedOrders.add(nextOrder);
+            index.remove(nextOrder);
+            currentX = nextOrder.getClientPositionX();
+            currentY = nextOrder.getClientPositionY();
+        }
+
+        return sortedOrders;
+    }
 }
@@ -16,24 +16,20 @@ public class StatisticsService {
     private final DroneService droneService;
 
     public StatisticsResponseDTO statisticsCalculation() {
-        var allRoutes = routeService.findAllRoutes();
-        var totalRoutes = allRoutes.size();
+        var totalRoutes = routeService.countRoutes();
 
-        var averageOrdersPerRoute = allRoutes.stream()
-                .mapToInt(route -> route.orders().size())
-                .average()
-                .orElse(0.0);
+        var averageOrdersPerRoute = totalRoutes > 0
+                ? (double) routeService.countRoutedOrders() / totalRoutes
+                : 0.0;
 
-        var totalOrdersCompleted = orderService.findAll().stream()
-                .filter(order -> order.getState() == OrderState.DELIVERED)
-                .count();
+        var totalOrdersCompleted = orderService.countByState(OrderState.DELIVERED);
 
         var dronesAvailable = droneService.getAllDrones().stream()
                 .filter(drone -> drone.status() == DroneState.IDLE)
                 .count();
 
         return new StatisticsResponseDTO(
-                totalRoutes,
+                (int) totalRoutes,
                 averageOrdersPerRoute,
                 (int) totalOrdersCompleted,
                 (int) dronesAvailable
@@ -0,0 +1,98 @@
+package com.dti.drone_delivery_simulator.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.dti.drone_delivery_simulator.batch.WorkloadFeeder;
+import com.dti.drone_delivery_simulator.batch.WorkloadGenerator;
+import com.dti.drone_delivery_simulator.batch.WorkloadProfile;
+import com.dti.drone_delivery_simulator.dto.WorkloadRequestDTO;
+import com.dti.drone_delivery_simulator.dto.WorkloadStatusDTO;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.exception.InvalidWorkloadRequestException;
+import com.dti.drone_delivery_simulator.exception.OrderPayloadException;
+import com.dti.drone_delivery_simulator.exception.WorkloadAlreadyRunningException;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class WorkloadService {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadService.class);
+
+    private final OrderService orderService;
+    private final SimulationEngine simulationEngine;
+
+    private Run current;
+
+    public synchronized WorkloadStatusDTO start(WorkloadRequestDTO request) {
+        if (request.orders() <= 0) {
+            throw new InvalidWorkloadRequestException("Quantidade de pedidos deve ser maior que zero.");
+        }
+        if (request.arrivalsPerSecond() != null && !(request.arrivalsPerSecond() > 0)) {
+            throw new InvalidWorkloadRequestException("Taxa de chegada deve ser maior que zero.");
+        }
+        if (current != null && !current.feeder.isExhausted()) {
+            throw new WorkloadAlreadyRunningException("Já existe uma carga de trabalho em execução.");
+        }
+
+        WorkloadProfile profile = request.arrivalsPerSecond() != null
+            ? WorkloadProfile.DEFAULT.withArrivalsPerSecond(request.arrivalsPerSecond())
+            : WorkloadProfile.DEFAULT;
+        current = new Run(request, profile);
+        current.feeder.start();
+        log.info("Carga de trabalho iniciada: {} pedidos, semente {}, {} pedidos/s.",
+            request.orders(), request.seed(), profile.arrivalsPerSecond());
+        return current.status();
+    }
+
+    public synchronized WorkloadStatusDTO status() {
+        return current != null ? current.status() : new WorkloadStatusDTO(false, 0, 0, 0, 0, 0, 0);
+    }
+
+    public synchronized WorkloadStatusDTO stop() {
+        if (current != null) {
+            current.feeder.cancel();
+        }
+        return status();
+    }
+
+    private class Run {
+
+        private final WorkloadRequestDTO request;
+        private final WorkloadProfile profile;
+        private final WorkloadFeeder feeder;
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong accepted = new AtomicLong();
+        private final AtomicLong refused = new AtomicLong();
+
+        Run(WorkloadRequestDTO request, WorkloadProfile profile) {
+            this.request = request;
+            this.profile = profile;
+            this.feeder = new WorkloadFeeder(simulationEngine,
+                WorkloadGenerator.stream(profile, request.seed()).limit(request.orders()).iterator(),
+                entry -> {
+                    submitted.incrementAndGet();
+                    try {
+                        if (orderService.createOrder(entry.request()).getState() == OrderState.PENDING) {
+                            accepted.incrementAndGet();
+                        } else {
+                            refused.incrementAndGet();
+                        }
+                    } catch (OrderPayloadException e) {
+                        refused.incrementAndGet();
+                    }
+                });
+        }
+
+        WorkloadStatusDTO status() {
+            return new WorkloadStatusDTO(!feeder.isExhausted(), request.orders(), submitted.get(), accepted.get(),
+                refused.get(), request.seed(), profile.arrivalsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.dti.drone_delivery_simulator.simulation;
+
+public class ScaledClock implements SimulationClock {
+
+    public static final String NAME = "scaled";
+
+    private final double speedUp;
+    private final long origin = System.nanoTime();
+
+    public ScaledClock(double speedUp) {
+        if (!(speedUp > 0)) {
+            throw new IllegalArgumentException("O fator de aceleração do relógio deve ser positivo");
+        }
+        this.speedUp = speedUp;
+    }
+
+    @Override
+    public long nanoTime() {
+        return (long) ((System.nanoTime() - origin) * speedUp);
+    }
+
+    @Override
+    public long realNanosUntil(long simulatedNanos) {
+        return (long) Math.ceil((simulatedNanos - nanoTime()) / speedUp);
+    }
+}
@@ -0,0 +1,11 @@
+package com.dti.drone_delivery_simulator.simulation;
+
+public interface SimulationClock {
+
+    long nanoTime();
+
+    long realNanosUntil(long simulatedNanos);
+
+    default void advanceTo(long simulatedNanos) {
+    }
+}
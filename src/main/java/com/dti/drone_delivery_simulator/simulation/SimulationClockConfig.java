@@ -0,0 +1,20 @@
+package com.dti.drone_delivery_simulator.simulation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SimulationClockConfig {
+
+    @Bean
+    public SimulationClock simulationClock(
+            @Value("${simulator.clock.mode:scaled}") String mode,
+            @Value("${simulator.clock.speed-up:1.0}") double speedUp) {
+        return switch (mode) {
+            case ScaledClock.NAME -> new ScaledClock(speedUp);
+            case VirtualClock.NAME -> new VirtualClock();
+            default -> throw new IllegalArgumentException("Modo de relógio da simulação desconhecido: " + mode);
+        };
+    }
+}
@@ -0,0 +1,157 @@
+package com.dti.drone_delivery_simulator.simulation;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class SimulationEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationEngine.class);
+
+    private final PriorityQueue<ScheduledEvent> events = new PriorityQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final SimulationClock clock;
+    private final Thread worker;
+
+    private long sequence;
+    private boolean busy;
+    private volatile boolean running = true;
+
+    @Autowired
+    public SimulationEngine(SimulationClock clock) {
+        this(clock, true);
+    }
+
+    public SimulationEngine(SimulationClock clock, boolean background) {
+        this.clock = clock;
+        if (background) {
+            worker = new Thread(this::run, "simulation-engine");
+            worker.setDaemon(true);
+            worker.start();
+        } else {
+            worker = null;
+        }
+    }
+
+    public void schedule(long delay, TimeUnit unit, Runnable action) {
+        long dueNanos = clock.nanoTime() + unit.toNanos(delay);
+        lock.lock();
+        try {
+            ScheduledEvent event = new ScheduledEvent(dueNanos, sequence++, action);
+            events.add(event);
+            if (events.peek() == event) {
+                changed.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long now(TimeUnit unit) {
+        return unit.convert(clock.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    public int pendingEvents() {
+        lock.lock();
+        try {
+            return events.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isIdle() {
+        lock.lock();
+        try {
+            return events.isEmpty() && !busy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void runUntilIdle() {
+        ScheduledEvent next;
+        while ((next = pollDue()) != null) {
+            execute(next);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            ScheduledEvent next;
+            lock.lock();
+            try {
+                next = pollDue();
+                if (next == null) {
+                    ScheduledEvent head = events.peek();
+                    if (head == null) {
+                        changed.await();
+                    } else {
+                        changed.awaitNanos(clock.realNanosUntil(head.dueNanos()));
+                    }
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            execute(next);
+        }
+    }
+
+    private ScheduledEvent pollDue() {
+        lock.lock();
+        try {
+            ScheduledEvent next = events.peek();
+            if (next == null || clock.realNanosUntil(next.dueNanos()) > 0) {
+                return null;
+            }
+            clock.advanceTo(next.dueNanos());
+            busy = true;
+            return events.poll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void execute(ScheduledEvent event) {
+        try {
+            event.action().run();
+        } catch (Exception e) {
+            log.error("Erro ao processar evento da simulação: {}", e.getMessage(), e);
+        } finally {
+            lock.lock();
+            busy = false;
+            lock.unlock();
+        }
+    }
+
+    private record ScheduledEvent(long dueNanos, long sequence, Runnable action) implements Comparable<ScheduledEvent> {
+
+        @Override
+        public int compareTo(ScheduledEvent other) {
+            int byTime = Long.compare(dueNanos, other.dueNanos);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
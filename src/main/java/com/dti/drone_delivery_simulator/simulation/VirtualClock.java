@@ -0,0 +1,25 @@
+package com.dti.drone_delivery_simulator.simulation;
+
+public class VirtualClock implements SimulationClock {
+
+    public static final String NAME = "as-fast-as-possible";
+
+    private volatile long now;
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    @Override
+    public long realNanosUntil(long simulatedNanos) {
+        return 0;
+    }
+
+    @Override
+    public void advanceTo(long simulatedNanos) {
+        if (simulatedNanos > now) {
+            now = simulatedNanos;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.dti.drone_delivery_simulator.snapshot;
+
+import com.dti.drone_delivery_simulator.journal.JournalPosition;
+
+public record SnapshotHeader(
+    JournalPosition position,
+    long takenAtMillis,
+    long nextOrderId,
+    long nextRouteId
+) {}
@@ -0,0 +1,316 @@
+package com.dti.drone_delivery_simulator.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dti.drone_delivery_simulator.enums.JournalEventType;
+import com.dti.drone_delivery_simulator.journal.EventJournal;
+import com.dti.drone_delivery_simulator.journal.JournalEvent;
+import com.dti.drone_delivery_simulator.journal.JournalPosition;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.model.Route;
+import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryRouteRepository;
+import com.dti.drone_delivery_simulator.repository.OrderRepository;
+import com.dti.drone_delivery_simulator.retention.RetentionArchive;
+import com.dti.drone_delivery_simulator.service.OrderService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Service
+public class SnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotService.class);
+
+    private static final int MAGIC = 0x44524F4E;
+    private static final int VERSION = 2;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final long[] NO_REFS = new long[0];
+
+    private record LoadedSnapshot(SnapshotHeader header, RetentionArchive.Contents archive) {}
+
+    private final EventJournal journal;
+    private final OrderRepository orderRepository;
+    private final InMemoryDroneRepository droneRepository;
+    private final InMemoryRouteRepository routeRepository;
+    private final OrderService orderService;
+    private final RetentionArchive retentionArchive;
+    private final Timer snapshotTimer;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int retained;
+
+    public SnapshotService(
+            EventJournal journal,
+            OrderRepository orderRepository,
+            InMemoryDroneRepository droneRepository,
+            InMemoryRouteRepository routeRepository,
+            OrderService orderService,
+            RetentionArchive retentionArchive,
+            MeterRegistry meterRegistry,
+            @Value("${simulator.snapshot.enabled:false}") boolean enabled,
+            @Value("${simulator.snapshot.directory:data/snapshots}") String directory,
+            @Value("${simulator.snapshot.retained:2}") int retained) {
+        this.journal = journal;
+        this.orderRepository = orderRepository;
+        this.droneRepository = droneRepository;
+        this.routeRepository = routeRepository;
+        this.orderService = orderService;
+        this.retentionArchive = retentionArchive;
+        this.snapshotTimer = meterRegistry.timer("simulator.snapshot.duration");
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.retained = Math.max(1, retained);
+    }
+
+    @Scheduled(fixedDelayString = "${simulator.snapshot.interval-ms:60000}",
+               initialDelayString = "${simulator.snapshot.interval-ms:60000}")
+    public void scheduledSnapshot() {
+        if (enabled) {
+            takeSnapshot();
+        }
+    }
+
+    public synchronized Path takeSnapshot() {
+        long start = System.nanoTime();
+        JournalPosition position;
+        List<Drone> drones;
+        List<Order> orders;
+        List<Route> routes;
+        RetentionArchive.Contents archive;
+
+        synchronized (retentionArchive) {
+            position = journal.position();
+            drones = droneRepository.findAll();
+            orders = orderRepository.findAll();
+            routes = routeRepository.findAll();
+            archive = retentionArchive.contents();
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve(String.format("%s%016d-%010d%s",
+                SNAPSHOT_PREFIX, position.segment(), position.offset(), SNAPSHOT_SUFFIX));
+            Path temporary = Files.createTempFile(directory, SNAPSHOT_PREFIX, ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temporary))))) {
+                writeHeader(out, position);
+                writeDrones(out, drones);
+                writeOrders(out, orders);
+                writeRoutes(out, routes);
+                RetentionArchive.write(out, archive);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            pruneOldSnapshots();
+            snapshotTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("Snapshot {} gravado: {} drones, {} pedidos, {} rotas.",
+                target.getFileName(), drones.size(), orders.size(), routes.size());
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível gravar o snapshot em " + directory, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<SnapshotHeader> loadLatest(Consumer<JournalEvent> consumer) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        List<Path> snapshots = snapshots();
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path path = snapshots.get(i);
+            try {
+                List<JournalEvent> events = new ArrayList<>();
+                LoadedSnapshot loaded = read(path, events::add);
+                retentionArchive.restore(loaded.archive());
+                journal.withoutJournaling(() -> events.forEach(consumer));
+                log.info("Snapshot {} carregado com {} registros.", path.getFileName(), events.size());
+                return Optional.of(loaded.header());
+            } catch (IOException | RuntimeException e) {
+                log.warn("Snapshot {} ilegível, tentando o anterior: {}", path.getFileName(), e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void writeHeader(DataOutputStream out, JournalPosition position) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(position.segment());
+        out.writeInt(position.offset());
+        out.writeLong(System.currentTimeMillis());
+        out.writeLong(orderService.peekNextId());
+        out.writeLong(routeRepository.peekNextId());
+    }
+
+    private void writeDrones(DataOutputStream out, List<Drone> drones) throws IOException {
+        out.writeInt(drones.size());
+        for (Drone drone : drones) {
+            out.writeLong(drone.getId());
+            out.writeDouble(drone.getMaxPayloadKg());
+            out.writeDouble(drone.getMaxRangeKm());
+            out.writeByte(ordinal(drone.getStatus()));
+            out.writeInt(drone.getPositionX());
+            out.writeInt(drone.getPositionY());
+            writeOrderIds(out, drone.getOrders());
+        }
+    }
+
+    private void writeOrders(DataOutputStream out, List<Order> orders) throws IOException {
+        out.writeInt(orders.size());
+        for (Order order : orders) {
+            out.writeLong(order.getId());
+            out.writeInt(order.getClientPositionX());
+            out.writeInt(order.getClientPositionY());
+            out.writeDouble(order.getPayloadKg());
+            out.writeByte(ordinal(order.getPriority()));
+            out.writeByte(ordinal(order.getState()));
+        }
+    }
+
+    private void writeRoutes(DataOutputStream out, List<Route> routes) throws IOException {
+        out.writeInt(routes.size());
+        for (Route route : routes) {
+            out.writeLong(route.getId());
+            out.writeLong(route.getDrone() == null ? 0 : route.getDrone().getId());
+            out.writeDouble(route.getTotalDistanceKm());
+            out.writeByte(ordinal(route.getStatus()));
+            writeOrderIds(out, route.getOrders() == null ? List.of() : route.getOrders());
+        }
+    }
+
+    private void writeOrderIds(DataOutputStream out, List<Order> orders) throws IOException {
+        out.writeInt(orders.size());
+        for (Order order : orders) {
+            out.writeLong(order.getId());
+        }
+    }
+
+    private LoadedSnapshot read(Path path, Consumer<JournalEvent> consumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Formato de snapshot desconhecido");
+            }
+            SnapshotHeader header = new SnapshotHeader(
+                new JournalPosition(in.readLong(), in.readInt()), in.readLong(), in.readLong(), in.readLong());
+
+            List<JournalEvent> droneOrders = new ArrayList<>();
+            int drones = in.readInt();
+            for (int i = 0; i < drones; i++) {
+                long id = in.readLong();
+                double maxPayload = in.readDouble();
+                double maxRange = in.readDouble();
+                int status = in.readByte();
+                int x = in.readInt();
+                int y = in.readInt();
+                consumer.accept(new JournalEvent(JournalEventType.DRONE_SAVED, id, 0, x, y,
+                    maxPayload, maxRange, status, JournalEvent.NONE, NO_REFS));
+                for (long orderId : readOrderIds(in)) {
+                    droneOrders.add(JournalEvent.droneOrderAdded(id, orderId));
+                }
+            }
+
+            int orders = in.readInt();
+            for (int i = 0; i < orders; i++) {
+                long id = in.readLong();
+                int x = in.readInt();
+                int y = in.readInt();
+                double payload = in.readDouble();
+                int priority = in.readByte();
+                int state = in.readByte();
+                consumer.accept(new JournalEvent(JournalEventType.ORDER_SAVED, id, 0, x, y,
+                    payload, 0, state, priority, NO_REFS));
+            }
+            droneOrders.forEach(consumer);
+
+            int routes = in.readInt();
+            for (int i = 0; i < routes; i++) {
+                long id = in.readLong();
+                long droneId = in.readLong();
+                double distance = in.readDouble();
+                int status = in.readByte();
+                consumer.accept(new JournalEvent(JournalEventType.ROUTE_SAVED, id, droneId, 0, 0,
+                    0, distance, status, JournalEvent.NONE, readOrderIds(in)));
+            }
+            return new LoadedSnapshot(header, RetentionArchive.read(in));
+        }
+    }
+
+    private long[] readOrderIds(DataInputStream in) throws IOException {
+        long[] ids = new long[in.readInt()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = in.readLong();
+        }
+        return ids;
+    }
+
+    private void pruneOldSnapshots() throws IOException {
+        List<Path> snapshots = snapshots();
+        int excess = snapshots.size() - retained;
+        for (int i = 0; i < excess; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+
+        List<Path> kept = snapshots.subList(Math.max(0, excess), snapshots.size());
+        if (!kept.isEmpty()) {
+            journal.truncateBefore(positionOf(kept.get(0)));
+        }
+    }
+
+    private List<Path> snapshots() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> path.getFileName().toString().startsWith(SNAPSHOT_PREFIX))
+                .filter(path -> path.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível listar os snapshots em " + directory, e);
+        }
+    }
+
+    private static JournalPosition positionOf(Path path) {
+        String name = path.getFileName().toString();
+        String[] parts = name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()).split("-");
+        return new JournalPosition(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+    }
+
+    private static int ordinal(Enum<?> value) {
+        return value == null ? JournalEvent.NONE : value.ordinal();
+    }
+}
@@ -0,0 +1,114 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.allocation.AllocationStrategy;
+import com.dti.drone_delivery_simulator.allocation.BestFitStrategy;
+import com.dti.drone_delivery_simulator.allocation.DroneAssignment;
+import com.dti.drone_delivery_simulator.allocation.FirstFitDecreasingStrategy;
+import com.dti.drone_delivery_simulator.allocation.FirstFitStrategy;
+import com.dti.drone_delivery_simulator.allocation.SavingsStrategy;
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+class AllocationStrategyBenchmarkTest {
+
+    private static final int ORDERS = 20_000;
+    private static final int DRONES = 50;
+
+    @Test
+    void reportFlightsDistanceAndCpuTimeByStrategy() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        List<AllocationStrategy> strategies = List.of(new FirstFitStrategy(), new FirstFitDecreasingStrategy(),
+            new BestFitStrategy(), new SavingsStrategy(512, new DistanceMatrix(0)));
+
+        for (AllocationStrategy strategy : strategies) {
+            List<Order> queue = orders();
+            List<Drone> drones = drones();
+            long flights = 0;
+            long deliveries = 0;
+            double totalKm = 0;
+            long cpuNanos = 0;
+
+            while (!queue.isEmpty()) {
+                long start = threads.getCurrentThreadCpuTime();
+                List<DroneAssignment> assignments = strategy.plan(drones, queue);
+                cpuNanos += threads.getCurrentThreadCpuTime() - start;
+
+                long waveDeliveries = 0;
+                for (DroneAssignment assignment : assignments) {
+                    if (assignment.orders().isEmpty()) {
+                        continue;
+                    }
+                    flights++;
+                    totalKm += assignment.plan().tourKm();
+                    for (Order order : assignment.orders()) {
+                        order.setState(OrderState.DELIVERED);
+                        waveDeliveries++;
+                    }
+                }
+                if (waveDeliveries == 0) {
+                    break;
+                }
+                deliveries += waveDeliveries;
+                queue.removeIf(order -> order.getState() == OrderState.DELIVERED);
+            }
+
+            System.out.printf("%-22s deliveries=%d flights=%d deliveries/flight=%.2f km=%.0f cpu=%.1f ms%n",
+                strategy.name(), deliveries, flights, (double) deliveries / flights, totalKm, cpuNanos / 1e6);
+            assertEquals(ORDERS, deliveries);
+        }
+    }
+
+    @Test
+    void reportSavingsCycleTimeWithDistanceMatrix() {
+        List<Order> queue = orders();
+        DistanceMatrix distanceMatrix = new DistanceMatrix(2_048);
+        queue.subList(0, 2_048).forEach(distanceMatrix::register);
+
+        report("savings (direct)", new SavingsStrategy(1_024, new DistanceMatrix(0)), queue);
+        report("savings (distance matrix)", new SavingsStrategy(1_024, distanceMatrix), queue);
+    }
+
+    private void report(String label, SavingsStrategy strategy, List<Order> queue) {
+        strategy.plan(drones(), queue);
+        long start = System.nanoTime();
+        for (int cycle = 0; cycle < 20; cycle++) {
+            strategy.plan(drones(), queue);
+        }
+        System.out.printf("%-26s %.1f ms/cycle%n", label, (System.nanoTime() - start) / 20 / 1e6);
+    }
+
+    private List<Order> orders() {
+        Random random = new Random(17);
+        OrderPriority[] priorities = OrderPriority.values();
+        List<Order> orders = new ArrayList<>(ORDERS);
+        for (long id = 1; id <= ORDERS; id++) {
+            orders.add(new Order(id, random.nextInt(81) - 40, random.nextInt(81) - 40,
+                0.5 + random.nextInt(8) * 0.5, priorities[random.nextInt(priorities.length)], OrderState.PENDING));
+        }
+        return orders;
+    }
+
+    private List<Drone> drones() {
+        List<Drone> drones = new ArrayList<>(DRONES);
+        for (long id = 1; id <= DRONES; id++) {
+            drones.add(new Drone(id, id % 2 == 0 ? 12.0 : 8.0, 150.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        }
+        return drones;
+    }
+}
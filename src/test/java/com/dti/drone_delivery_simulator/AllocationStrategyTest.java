@@ -0,0 +1,164 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.allocation.AllocationStrategy;
+import com.dti.drone_delivery_simulator.allocation.AllocationStrategyConfig;
+import com.dti.drone_delivery_simulator.allocation.BestFitStrategy;
+import com.dti.drone_delivery_simulator.allocation.DroneAssignment;
+import com.dti.drone_delivery_simulator.allocation.FirstFitDecreasingStrategy;
+import com.dti.drone_delivery_simulator.allocation.FirstFitStrategy;
+import com.dti.drone_delivery_simulator.allocation.LoadPlan;
+import com.dti.drone_delivery_simulator.allocation.SavingsStrategy;
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationStrategyTest {
+
+    @Test
+    void plan_EveryStrategyShouldRespectPayloadRangeAndAssignEachOrderOnce() {
+        for (AllocationStrategy strategy : List.of(new FirstFitStrategy(), new FirstFitDecreasingStrategy(),
+                new BestFitStrategy(), new SavingsStrategy(128, new DistanceMatrix(0)))) {
+            List<Order> orders = orders(300);
+            orders.get(0).setState(OrderState.ALLOCATED);
+
+            Set<Long> seen = new HashSet<>();
+            for (DroneAssignment assignment : strategy.plan(drones(10), orders)) {
+                Drone drone = assignment.drone();
+                double payload = assignment.orders().stream().mapToDouble(Order::getPayloadKg).sum();
+                assertTrue(payload <= drone.getMaxPayloadKg(), strategy.name());
+                assertTrue(assignment.plan().tourKm() <= drone.getMaxRangeKm() + 1e-9, strategy.name());
+                for (Order order : assignment.orders()) {
+                    assertEquals(OrderState.PENDING, order.getState(), strategy.name());
+                    assertTrue(seen.add(order.getId()), strategy.name());
+                }
+            }
+            assertFalse(seen.isEmpty(), strategy.name());
+        }
+    }
+
+    @Test
+    void inTourOrder_ShouldMatchTheTourCheckedAgainstRange() {
+        for (AllocationStrategy strategy : List.of(new FirstFitStrategy(), new BestFitStrategy(),
+                new SavingsStrategy(128, new DistanceMatrix(0)))) {
+            for (DroneAssignment assignment : strategy.plan(drones(10), orders(300))) {
+                double flownKm = RouteCost.tourKm(assignment.inTourOrder());
+                assertEquals(assignment.plan().tourKm(), flownKm, 1e-6, strategy.name());
+                assertEquals(new HashSet<>(assignment.orders()), new HashSet<>(assignment.inTourOrder()), strategy.name());
+            }
+        }
+    }
+
+    @Test
+    void inTourOrder_ShouldFollowTheTourAndSkipOrdersAlreadyCarried() {
+        Order carried = new Order(1L, 10, 0, 1.0, OrderPriority.LOW, OrderState.ALLOCATED);
+        Drone drone = new Drone(1L, 10.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>(List.of(carried)));
+        Order far = new Order(2L, 20, 0, 1.0, OrderPriority.LOW, OrderState.PENDING);
+        Order near = new Order(3L, 5, 0, 1.0, OrderPriority.LOW, OrderState.PENDING);
+
+        LoadPlan plan = LoadPlan.of(drone);
+        assertTrue(plan.tryAdd(far));
+        assertTrue(plan.tryAdd(near));
+
+        List<Order> expected = plan.route().stream().filter(order -> order != carried).toList();
+        assertEquals(3, plan.route().size());
+        assertEquals(expected, new DroneAssignment(drone, plan, List.of(far, near)).inTourOrder());
+    }
+
+    @Test
+    void firstFitDecreasing_ShouldPackHeavierOrdersFirstWithinSamePriority() {
+        Drone drone = new Drone(1L, 10.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>());
+        Order light = new Order(1L, 1, 1, 2.0, OrderPriority.LOW, OrderState.PENDING);
+        Order heavy = new Order(2L, 2, 2, 9.0, OrderPriority.LOW, OrderState.PENDING);
+
+        List<Order> firstFit = new FirstFitStrategy().plan(List.of(drone), List.of(light, heavy)).get(0).orders();
+        List<Order> decreasing = new FirstFitDecreasingStrategy().plan(List.of(drone), List.of(light, heavy)).get(0).orders();
+
+        assertEquals(List.of(light), firstFit);
+        assertEquals(List.of(heavy), decreasing);
+    }
+
+    @Test
+    void bestFit_ShouldPickDroneWithLeastRemainingPayload() {
+        Drone large = new Drone(1L, 20.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>());
+        Drone small = new Drone(2L, 6.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>());
+        Order order = new Order(1L, 3, 4, 5.0, OrderPriority.HIGH, OrderState.PENDING);
+
+        List<DroneAssignment> assignments = new BestFitStrategy().plan(List.of(large, small), List.of(order));
+
+        assertTrue(assignments.get(0).orders().isEmpty());
+        assertEquals(List.of(order), assignments.get(1).orders());
+    }
+
+    @Test
+    void savings_ShouldGroupNeighbouringOrdersOnTheSameFlight() {
+        Drone first = new Drone(1L, 10.0, 200.0, DroneState.IDLE, 0, 0, new ArrayList<>());
+        Drone second = new Drone(2L, 10.0, 200.0, DroneState.IDLE, 0, 0, new ArrayList<>());
+        Order east = new Order(1L, 40, 0, 5.0, OrderPriority.HIGH, OrderState.PENDING);
+        Order west = new Order(2L, -40, 0, 5.0, OrderPriority.HIGH, OrderState.PENDING);
+        Order eastNeighbour = new Order(3L, 41, 1, 5.0, OrderPriority.LOW, OrderState.PENDING);
+        Order westNeighbour = new Order(4L, -41, 1, 5.0, OrderPriority.LOW, OrderState.PENDING);
+
+        List<DroneAssignment> assignments = new SavingsStrategy(16, new DistanceMatrix(0))
+            .plan(List.of(first, second), List.of(east, west, eastNeighbour, westNeighbour));
+
+        assertEquals(Set.of(east, eastNeighbour), new HashSet<>(assignments.get(0).orders()));
+        assertEquals(Set.of(west, westNeighbour), new HashSet<>(assignments.get(1).orders()));
+    }
+
+    @Test
+    void savings_WithDistanceMatrix_ShouldPlanLikeDirectComputation() {
+        List<Order> orders = orders(200);
+        DistanceMatrix distanceMatrix = new DistanceMatrix(256);
+        orders.forEach(distanceMatrix::register);
+
+        List<DroneAssignment> direct = new SavingsStrategy(128, new DistanceMatrix(0)).plan(drones(6), orders);
+        List<DroneAssignment> cached = new SavingsStrategy(128, distanceMatrix).plan(drones(6), orders);
+
+        for (int i = 0; i < direct.size(); i++) {
+            assertEquals(direct.get(i).orders(), cached.get(i).orders());
+        }
+    }
+
+    @Test
+    void config_ShouldSelectStrategyByNameAndRejectUnknownNames() {
+        AllocationStrategyConfig config = new AllocationStrategyConfig();
+        DistanceMatrix distanceMatrix = new DistanceMatrix(64);
+
+        assertEquals(SavingsStrategy.NAME, config.allocationStrategy("savings", 64, distanceMatrix).name());
+        assertEquals(BestFitStrategy.NAME, config.allocationStrategy("best-fit", 64, distanceMatrix).name());
+        assertThrows(IllegalArgumentException.class, () -> config.allocationStrategy("random", 64, distanceMatrix));
+    }
+
+    private List<Order> orders(int count) {
+        Random random = new Random(5);
+        OrderPriority[] priorities = OrderPriority.values();
+        List<Order> orders = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            orders.add(new Order(id, random.nextInt(121) - 60, random.nextInt(121) - 60,
+                0.5 + random.nextInt(8) * 0.5, priorities[random.nextInt(priorities.length)], OrderState.PENDING));
+        }
+        return orders;
+    }
+
+    private List<Drone> drones(int count) {
+        List<Drone> drones = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            drones.add(new Drone(id, 6.0 + id, 150.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        }
+        return drones;
+    }
+}
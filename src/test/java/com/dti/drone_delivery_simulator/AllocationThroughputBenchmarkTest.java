@@ -0,0 +1,118 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.allocation.FirstFitStrategy;
+import com.dti.drone_delivery_simulator.allocation.PartitionedAllocator;
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.ExactRouteSolver;
+import com.dti.drone_delivery_simulator.routing.RouteImprover;
+import com.dti.drone_delivery_simulator.service.OrderAllocationService;
+import com.dti.drone_delivery_simulator.service.RouteService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class AllocationThroughputBenchmarkTest {
+
+    private static final int ORDERS = 50_000;
+    private static final int DRONES = 500;
+    private static final double MAX_PAYLOAD_KG = 60.0;
+    private static final double MAX_RANGE_KM = 400.0;
+
+    @Test
+    void compareIncrementalAndLegacyAllocation() {
+        Fixture legacy = new Fixture();
+        long legacyStart = System.nanoTime();
+        long legacyAllocated = legacy.allocateLegacy();
+        double legacyMillis = (System.nanoTime() - legacyStart) / 1e6;
+
+        Fixture incremental = new Fixture();
+        DispatchQueue dispatchQueue = new DispatchQueue(new SimpleMeterRegistry(), 30_000);
+        dispatchQueue.enqueueAll(incremental.orderRepository.findPendingOrders());
+        OrderAllocationService service = new OrderAllocationService(
+            incremental.orderRepository, incremental.droneRepository, dispatchQueue, new PartitionedAllocator(false, 1, 0),
+            new FirstFitStrategy());
+        long incrementalStart = System.nanoTime();
+        service.allocatePendingOrders();
+        long incrementalAllocated = incremental.orderRepository.countByState(OrderState.ALLOCATED);
+        double incrementalMillis = (System.nanoTime() - incrementalStart) / 1e6;
+
+        System.out.printf("legacy allocation: %d orders in %.1f ms (%.0f orders/s)%n",
+            legacyAllocated, legacyMillis, legacyAllocated / legacyMillis * 1000);
+        System.out.printf("incremental allocation: %d orders in %.1f ms (%.0f orders/s)%n",
+            incrementalAllocated, incrementalMillis, incrementalAllocated / incrementalMillis * 1000);
+
+        assertTrue(legacyAllocated > 0);
+        assertTrue(incrementalAllocated > 0);
+        legacy.assertPayloadRespected();
+        incremental.assertPayloadRespected();
+    }
+
+    private static class Fixture {
+        final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        final InMemoryDroneRepository droneRepository = new InMemoryDroneRepository();
+        final RouteService routeService =
+            new RouteService(null, null, new RouteImprover(0, 0, new DistanceMatrix(0)),
+                new ExactRouteSolver(0, 0, new DistanceMatrix(0)));
+
+        Fixture() {
+            Random random = new Random(42);
+            OrderPriority[] priorities = OrderPriority.values();
+            for (long id = 1; id <= ORDERS; id++) {
+                orderRepository.save(new Order(id, random.nextInt(301) - 150, random.nextInt(301) - 150,
+                    0.5 + random.nextInt(8) * 0.5, priorities[random.nextInt(priorities.length)], OrderState.PENDING));
+            }
+            for (long id = 1; id <= DRONES; id++) {
+                droneRepository.save(new Drone(id, MAX_PAYLOAD_KG, MAX_RANGE_KM, DroneState.IDLE, 0, 0, new ArrayList<>()));
+            }
+        }
+
+        long allocateLegacy() {
+            long allocated = 0;
+            for (Drone idle : droneRepository.findByState(DroneState.IDLE)) {
+                Drone drone = idle;
+                for (Order order : orderRepository.findPendingWithinRadius(0, 0, drone.getMaxRangeKm() / 2)) {
+                    if (order.getState() != OrderState.PENDING) {
+                        continue;
+                    }
+                    double currentPayload = drone.getOrders().stream().mapToDouble(Order::getPayloadKg).sum();
+                    if (currentPayload + order.getPayloadKg() > drone.getMaxPayloadKg()) {
+                        continue;
+                    }
+                    List<Order> simulatedOrders = new ArrayList<>(drone.getOrders());
+                    simulatedOrders.add(order);
+                    if (routeService.calculateRouteDistance(simulatedOrders, 0, 0) > drone.getMaxRangeKm()) {
+                        continue;
+                    }
+                    drone = droneRepository.addOrderToDrone(drone.getId(), order);
+                    order.setState(OrderState.ALLOCATED);
+                    orderRepository.update(order);
+                    allocated++;
+                }
+            }
+            return allocated;
+        }
+
+        void assertPayloadRespected() {
+            for (Drone drone : droneRepository.findAll()) {
+                double payload = drone.getOrders().stream().mapToDouble(Order::getPayloadKg).sum();
+                assertTrue(payload <= drone.getMaxPayloadKg() + 1e-9);
+            }
+        }
+    }
+}
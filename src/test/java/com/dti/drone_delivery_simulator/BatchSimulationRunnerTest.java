@@ -0,0 +1,67 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.batch.BatchReport;
+import com.dti.drone_delivery_simulator.batch.BatchSimulationRunner;
+import com.dti.drone_delivery_simulator.batch.BatchWorkload;
+import com.dti.drone_delivery_simulator.batch.WorkloadOrder;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "simulator.clock.mode=as-fast-as-possible",
+    "logging.level.com.dti.drone_delivery_simulator.service=WARN"
+})
+class BatchSimulationRunnerTest {
+
+    @Autowired
+    private BatchSimulationRunner batchSimulationRunner;
+
+    @TempDir
+    Path workloadDirectory;
+
+    @Test
+    void run_ShouldDeliverWholeWorkloadAndReportThroughput() {
+        List<WorkloadOrder> workload = BatchWorkload.uniform(300, 7, 8, 1_000);
+
+        BatchReport report = batchSimulationRunner.run(workload, 30);
+
+        assertEquals(300, report.submitted());
+        assertEquals(300, report.accepted());
+        assertEquals(300, report.delivered());
+        assertTrue(report.kmFlown() > 0);
+        assertTrue(report.allocationCycles() > 0);
+        assertTrue(report.simulatedSeconds() >= 299);
+        assertTrue(report.latencyP50Seconds() > 0);
+        assertTrue(report.latencyP50Seconds() <= report.latencyP95Seconds());
+        assertTrue(report.latencyP99Seconds() <= report.latencyMaxSeconds());
+    }
+
+    @Test
+    void load_ShouldParseCsvWorkloadInArrivalOrder() throws Exception {
+        Path file = workloadDirectory.resolve("workload.csv");
+        Files.writeString(file, """
+            arrival_ms,x,y,payload_kg,priority
+            # pedidos de teste
+            2000,3,4,1.5,high
+            0,-1,2,0.5,LOW
+            """);
+
+        List<WorkloadOrder> workload = BatchWorkload.load(file);
+
+        assertEquals(2, workload.size());
+        assertEquals(0, workload.get(0).arrivalMs());
+        assertEquals(OrderPriority.LOW, workload.get(0).request().priority());
+        assertEquals(3, workload.get(1).request().clientPositionX());
+        assertEquals(OrderPriority.HIGH, workload.get(1).request().priority());
+    }
+}
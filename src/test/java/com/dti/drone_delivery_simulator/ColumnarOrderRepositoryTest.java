@@ -0,0 +1,116 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.repository.ColumnarOrderRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarOrderRepositoryTest {
+
+    private ColumnarOrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new ColumnarOrderRepository();
+    }
+
+    @Test
+    void save_ShouldReturnViewReadingStoredColumns() {
+        Order saved = orderRepository.save(new Order(7L, 10, -20, 2.5, OrderPriority.HIGH, OrderState.PENDING));
+
+        assertEquals(7L, saved.getId());
+        assertEquals(10, saved.getClientPositionX());
+        assertEquals(-20, saved.getClientPositionY());
+        assertEquals(2.5, saved.getPayloadKg());
+        assertEquals(OrderPriority.HIGH, saved.getPriority());
+        assertEquals(OrderState.PENDING, saved.getState());
+        assertEquals(new Order(7L, 0, 0, 0, null, null), saved);
+    }
+
+    @Test
+    void moveOrder_ShouldKeepSpatialIndexInSync() {
+        Order view = orderRepository.save(new Order(1L, 5, 5, 1.0, OrderPriority.LOW, OrderState.PENDING));
+        view.setClientPositionX(80);
+        view.setClientPositionY(-40);
+
+        assertTrue(orderRepository.findPendingWithinRadius(5, 5, 1).isEmpty());
+        assertEquals(List.of(1L), orderRepository.findPendingWithinRadius(80, -40, 1).stream().map(Order::getId).toList());
+
+        orderRepository.update(new Order(1L, -30, 30, 1.0, OrderPriority.LOW, OrderState.PENDING));
+
+        assertTrue(orderRepository.findPendingWithinRadius(80, -40, 1).isEmpty());
+        assertEquals(1, orderRepository.findPendingWithinRadius(-30, 30, 1).size());
+    }
+
+    @Test
+    void setStateOnView_ShouldMoveOrderBetweenStateIndexes() {
+        orderRepository.save(new Order(1L, 10, 10, 1.0, OrderPriority.LOW, OrderState.PENDING));
+        orderRepository.save(new Order(2L, 20, 20, 2.0, OrderPriority.LOW, OrderState.PENDING));
+
+        Order view = orderRepository.findPendingOrders().get(0);
+        view.setState(OrderState.ALLOCATED);
+        orderRepository.update(view);
+
+        List<Order> pending = orderRepository.findPendingOrders();
+        assertEquals(1, pending.size());
+        assertEquals(2L, pending.get(0).getId());
+        assertEquals(1, orderRepository.countByState(OrderState.ALLOCATED));
+        assertEquals(OrderState.ALLOCATED, orderRepository.findById(1L).orElseThrow().getState());
+    }
+
+    @Test
+    void save_WhenCapacityIsExceeded_ShouldKeepEveryOrderReachable() {
+        for (long id = 1; id <= 5000; id++) {
+            orderRepository.save(new Order(id, (int) id, 0, 1.0, OrderPriority.MEDIUM, OrderState.PENDING));
+        }
+
+        assertEquals(5000, orderRepository.size());
+        assertEquals(5000, orderRepository.countByState(OrderState.PENDING));
+        assertEquals(4321, orderRepository.findById(4321L).orElseThrow().getClientPositionX());
+        assertTrue(orderRepository.findById(5001L).isEmpty());
+    }
+
+    @Test
+    void remove_ShouldFreeSlotForReuseAndKeepOtherOrdersReachable() {
+        for (long id = 1; id <= 3000; id++) {
+            orderRepository.save(new Order(id, (int) id, 0, 1.0, OrderPriority.LOW, OrderState.DELIVERED));
+        }
+        for (long id = 1; id <= 2000; id++) {
+            Order removed = orderRepository.remove(id).orElseThrow();
+            assertEquals(id, removed.getId());
+            assertEquals(OrderState.DELIVERED, removed.getState());
+        }
+        orderRepository.save(new Order(5000L, 5, 5, 2.0, OrderPriority.HIGH, OrderState.PENDING));
+
+        assertTrue(orderRepository.findById(1L).isEmpty());
+        assertTrue(orderRepository.remove(1L).isEmpty());
+        assertEquals(1001, orderRepository.size());
+        assertEquals(1000, orderRepository.countByState(OrderState.DELIVERED));
+        assertEquals(5, orderRepository.findById(5000L).orElseThrow().getClientPositionX());
+        assertEquals(2001L, orderRepository.findAll().get(0).getId());
+        assertEquals(5000L, orderRepository.findPendingWithinRadius(0, 0, 10).get(0).getId());
+    }
+
+    @Test
+    void remove_ShouldInvalidateViewsHeldForRecycledSlot() {
+        Order stale = orderRepository.save(new Order(1L, 3, 4, 1.0, OrderPriority.LOW, OrderState.PENDING));
+        orderRepository.remove(1L);
+
+        assertThrows(IllegalStateException.class, stale::getClientPositionX);
+
+        Order reused = orderRepository.save(new Order(2L, 7, 8, 2.0, OrderPriority.HIGH, OrderState.PENDING));
+
+        assertEquals(1L, stale.getId());
+        assertThrows(IllegalStateException.class, stale::getPayloadKg);
+        assertThrows(IllegalStateException.class, () -> stale.setState(OrderState.DELIVERED));
+        assertEquals(7, reused.getClientPositionX());
+        assertEquals(OrderState.PENDING, orderRepository.findById(2L).orElseThrow().getState());
+    }
+}
@@ -0,0 +1,70 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+class DispatchLatencyBenchmarkTest {
+
+    private static final int CYCLES = 2_000;
+    private static final int ARRIVALS_PER_CYCLE = 50;
+    private static final int CAPACITY_PER_CYCLE = 45;
+    private static final long CYCLE_MS = 100;
+
+    @Test
+    void reportWaitPercentilesUnderSustainedBacklog() {
+        AtomicLong clock = new AtomicLong();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DispatchQueue dispatchQueue = new DispatchQueue(meterRegistry, 30_000, clock::get);
+        Random random = new Random(7);
+        long nextId = 1;
+
+        for (int cycle = 0; cycle < CYCLES; cycle++) {
+            for (int i = 0; i < ARRIVALS_PER_CYCLE; i++) {
+                double draw = random.nextDouble();
+                OrderPriority priority = draw < 0.2 ? OrderPriority.HIGH : draw < 0.5 ? OrderPriority.MEDIUM : OrderPriority.LOW;
+                dispatchQueue.enqueue(new Order(nextId++, 1, 1, 1.0, priority, OrderState.PENDING));
+            }
+
+            List<Order> ordered = dispatchQueue.inDispatchOrder();
+            for (Order order : ordered.subList(0, Math.min(CAPACITY_PER_CYCLE, ordered.size()))) {
+                order.setState(OrderState.ALLOCATED);
+                dispatchQueue.markDispatched(order);
+            }
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(CYCLE_MS));
+        }
+
+        Map<OrderPriority, Double> p99 = new EnumMap<>(OrderPriority.class);
+        long dispatched = 0;
+        for (OrderPriority priority : OrderPriority.values()) {
+            var snapshot = meterRegistry.get("simulator.dispatch.wait").tag("priority", priority.name()).timer().takeSnapshot();
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                if (percentile.percentile() == 0.99) {
+                    p99.put(priority, percentile.value(TimeUnit.MILLISECONDS));
+                }
+            }
+            dispatched += snapshot.count();
+            System.out.printf("%s: dispatched=%d mean=%.0f ms p99=%.0f ms%n", priority, snapshot.count(),
+                snapshot.mean(TimeUnit.MILLISECONDS), p99.get(priority));
+        }
+        System.out.printf("still queued: %d%n", dispatchQueue.size());
+
+        assertEquals((long) CYCLES * ARRIVALS_PER_CYCLE, dispatched + dispatchQueue.size());
+    }
+}
@@ -0,0 +1,77 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchQueueTest {
+
+    private static final long AGING_MS = 1000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private DispatchQueue dispatchQueue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatchQueue = new DispatchQueue(meterRegistry, AGING_MS, clock::get);
+    }
+
+    @Test
+    void inDispatchOrder_ShouldOrderByPriorityThenArrival() {
+        Order low = order(1L, OrderPriority.LOW);
+        Order medium = order(2L, OrderPriority.MEDIUM);
+        Order firstHigh = order(3L, OrderPriority.HIGH);
+        Order secondHigh = order(4L, OrderPriority.HIGH);
+        dispatchQueue.enqueueAll(List.of(low, medium, firstHigh, secondHigh));
+
+        assertEquals(List.of(firstHigh, secondHigh, medium, low), dispatchQueue.inDispatchOrder());
+    }
+
+    @Test
+    void inDispatchOrder_ShouldPromoteWaitingOrdersToAvoidStarvation() {
+        Order low = order(1L, OrderPriority.LOW);
+        dispatchQueue.enqueue(low);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2 * AGING_MS));
+        Order high = order(2L, OrderPriority.HIGH);
+        dispatchQueue.enqueue(high);
+
+        assertEquals(List.of(low, high), dispatchQueue.inDispatchOrder());
+    }
+
+    @Test
+    void markDispatched_ShouldRecordWaitPerPriorityAndDropStaleEntries() {
+        Order high = order(1L, OrderPriority.HIGH);
+        Order allocatedElsewhere = order(2L, OrderPriority.LOW);
+        dispatchQueue.enqueueAll(List.of(high, allocatedElsewhere));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        dispatchQueue.markDispatched(high);
+        allocatedElsewhere.setState(OrderState.ALLOCATED);
+
+        assertTrue(dispatchQueue.inDispatchOrder().isEmpty());
+        assertEquals(0, dispatchQueue.size());
+
+        Timer highWait = meterRegistry.get("simulator.dispatch.wait").tag("priority", "HIGH").timer();
+        assertEquals(1, highWait.count());
+        assertEquals(250.0, highWait.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(0, meterRegistry.get("simulator.dispatch.wait").tag("priority", "LOW").timer().count());
+    }
+
+    private Order order(Long id, OrderPriority priority) {
+        return new Order(id, 1, 1, 1.0, priority, OrderState.PENDING);
+    }
+}
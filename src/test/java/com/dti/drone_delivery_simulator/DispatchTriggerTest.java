@@ -0,0 +1,66 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.dispatch.DispatchTrigger;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+import com.dti.drone_delivery_simulator.simulation.VirtualClock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchTriggerTest {
+
+    private final SimulationEngine simulationEngine = new SimulationEngine(new VirtualClock(), false);
+    private final List<Long> dispatchTimesMs = new ArrayList<>();
+
+    @Test
+    void signal_ShouldCoalesceBurstIntoSingleDispatchAfterDebounce() {
+        DispatchTrigger dispatchTrigger = trigger(50, 1_000);
+
+        for (int i = 0; i < 100; i++) {
+            dispatchTrigger.signal();
+        }
+        simulationEngine.runUntilIdle();
+
+        assertEquals(List.of(50L), dispatchTimesMs);
+    }
+
+    @Test
+    void signal_ShouldDispatchWithinBatchWindowUnderContinuousSignals() {
+        DispatchTrigger dispatchTrigger = trigger(40, 100);
+
+        for (int i = 0; i <= 50; i++) {
+            simulationEngine.schedule(i * 10L, TimeUnit.MILLISECONDS, dispatchTrigger::signal);
+        }
+        simulationEngine.runUntilIdle();
+
+        assertEquals(List.of(100L, 210L, 320L, 430L, 540L), dispatchTimesMs);
+    }
+
+    @Test
+    void signal_AfterQuietPeriod_ShouldStartNewBatch() {
+        DispatchTrigger dispatchTrigger = trigger(20, 200);
+
+        dispatchTrigger.signal();
+        simulationEngine.schedule(100, TimeUnit.MILLISECONDS, dispatchTrigger::signal);
+        simulationEngine.runUntilIdle();
+
+        assertEquals(List.of(20L, 120L), dispatchTimesMs);
+    }
+
+    @Test
+    void constructor_ShouldRejectWindowShorterThanDebounce() {
+        assertDoesNotThrow(() -> new DispatchTrigger(simulationEngine, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DispatchTrigger(simulationEngine, 100, 50));
+    }
+
+    private DispatchTrigger trigger(long debounceMs, long maxBatchWindowMs) {
+        DispatchTrigger dispatchTrigger = new DispatchTrigger(simulationEngine, debounceMs, maxBatchWindowMs);
+        dispatchTrigger.onDispatch(() -> dispatchTimesMs.add(simulationEngine.now(TimeUnit.MILLISECONDS)));
+        return dispatchTrigger;
+    }
+}
@@ -0,0 +1,74 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistanceMatrixTest {
+
+    @Test
+    void distance_ShouldMatchRouteCostAcrossGrowthAndSlotReuse() {
+        DistanceMatrix matrix = new DistanceMatrix(512);
+        Random random = new Random(13);
+        List<Order> active = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            Order order = order(id, random.nextInt(201) - 100, random.nextInt(201) - 100);
+            assertTrue(matrix.register(order));
+            active.add(order);
+        }
+        for (int i = 0; i < 100; i++) {
+            matrix.release(active.remove(random.nextInt(active.size())).getId());
+        }
+        for (long id = 301; id <= 400; id++) {
+            Order order = order(id, random.nextInt(201) - 100, random.nextInt(201) - 100);
+            matrix.register(order);
+            active.add(order);
+        }
+
+        assertEquals(300, matrix.size());
+        int[] slots = matrix.slotsOf(active);
+        assertNotNull(slots);
+        for (int i = 0; i < active.size(); i++) {
+            Order from = active.get(i);
+            assertEquals(RouteCost.fromBase(from.getClientPositionX(), from.getClientPositionY()),
+                matrix.distance(DistanceMatrix.BASE, slots[i]));
+            for (int j = 0; j < active.size(); j += 7) {
+                Order to = active.get(j);
+                assertEquals(RouteCost.distance(from.getClientPositionX(), from.getClientPositionY(),
+                    to.getClientPositionX(), to.getClientPositionY()), matrix.distance(slots[i], slots[j]));
+            }
+        }
+    }
+
+    @Test
+    void register_WhenFull_ShouldRefuseAndLeaveLookupsToFallback() {
+        DistanceMatrix matrix = new DistanceMatrix(2);
+        Order first = order(1L, 1, 1);
+        Order second = order(2L, 2, 2);
+        Order third = order(3L, 3, 3);
+
+        assertTrue(matrix.register(first));
+        assertTrue(matrix.register(second));
+        assertFalse(matrix.register(third));
+        assertEquals(-1, matrix.slotOf(third.getId()));
+        assertNull(matrix.slotsOf(List.of(first, third)));
+
+        matrix.release(first.getId());
+        assertTrue(matrix.register(third));
+        assertNotNull(matrix.slotsOf(List.of(second, third)));
+    }
+
+    private Order order(Long id, int x, int y) {
+        return new Order(id, x, y, 1.0, OrderPriority.LOW, OrderState.PENDING);
+    }
+}
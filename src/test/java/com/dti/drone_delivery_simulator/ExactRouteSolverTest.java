@@ -0,0 +1,91 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+import com.dti.drone_delivery_simulator.routing.ExactRouteSolver;
+import com.dti.drone_delivery_simulator.routing.RouteImprover;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExactRouteSolverTest {
+
+    @Test
+    void solve_ShouldNeverBeLongerThanLocalSearch() {
+        ExactRouteSolver solver = new ExactRouteSolver(10, 64, new DistanceMatrix(0));
+        RouteImprover improver = new RouteImprover(1_000, 1_000, new DistanceMatrix(0));
+        Random random = new Random(41);
+
+        for (int round = 0; round < 30; round++) {
+            List<Order> route = new ArrayList<>();
+            for (long id = 1; id <= 3 + random.nextInt(8); id++) {
+                route.add(order(id, random.nextInt(101) - 50, random.nextInt(101) - 50));
+            }
+
+            List<Order> exact = solver.solve(route);
+
+            assertEquals(new HashSet<>(route), new HashSet<>(exact));
+            assertTrue(RouteCost.tourKm(exact) <= RouteCost.tourKm(improver.improve(route)) + 1e-9);
+        }
+    }
+
+    @Test
+    void solve_ShouldReusePlanForSameStopsInAnyOrder() {
+        ExactRouteSolver solver = new ExactRouteSolver(10, 64, new DistanceMatrix(0));
+        List<Order> route = new ArrayList<>(List.of(
+            order(1L, 5, 5), order(2L, 10, 0), order(3L, 0, 10), order(4L, -3, 2)));
+
+        double first = RouteCost.tourKm(solver.solve(route));
+        Collections.reverse(route);
+        double second = RouteCost.tourKm(solver.solve(route));
+
+        assertEquals(first, second, 1e-9);
+        assertEquals(1, solver.cachedPlans());
+    }
+
+    @Test
+    void solve_WithDistanceMatrix_ShouldPlanLikeDirectComputation() {
+        DistanceMatrix distanceMatrix = new DistanceMatrix(64);
+        ExactRouteSolver direct = new ExactRouteSolver(10, 64, new DistanceMatrix(0));
+        ExactRouteSolver cached = new ExactRouteSolver(10, 64, distanceMatrix);
+        Random random = new Random(7);
+
+        for (int round = 0; round < 20; round++) {
+            List<Order> route = new ArrayList<>();
+            for (long id = 1; id <= 3 + random.nextInt(8); id++) {
+                route.add(order(round * 100L + id, random.nextInt(101) - 50, random.nextInt(101) - 50));
+            }
+            route.forEach(distanceMatrix::register);
+
+            assertEquals(direct.solve(route), cached.solve(route));
+            route.forEach(order -> distanceMatrix.release(order.getId()));
+        }
+    }
+
+    @Test
+    void solve_ShouldEvictLeastRecentlyUsedPlans() {
+        ExactRouteSolver solver = new ExactRouteSolver(10, 2, new DistanceMatrix(0));
+        for (int i = 0; i < 5; i++) {
+            solver.solve(List.of(order(1L, i, 1), order(2L, 2, i), order(3L, -i, -1)));
+        }
+
+        assertEquals(2, solver.cachedPlans());
+        assertTrue(solver.supports(10));
+        assertFalse(solver.supports(11));
+        assertThrows(IllegalArgumentException.class, () -> new ExactRouteSolver(17, 2, new DistanceMatrix(0)));
+    }
+
+    private Order order(Long id, int x, int y) {
+        return new Order(id, x, y, 1.0, OrderPriority.LOW, OrderState.ALLOCATED);
+    }
+}
@@ -0,0 +1,267 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.exception.DroneNotAvailableException;
+import com.dti.drone_delivery_simulator.exception.DroneNotFoundException;
+import com.dti.drone_delivery_simulator.exception.DroneStateConflictException;
+import com.dti.drone_delivery_simulator.journal.EventJournal;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.FleetEnvelope;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryDroneRepositoryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryDroneRepository droneRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        droneRepository = new InMemoryDroneRepository(EventJournal.NONE, meterRegistry);
+        droneRepository.save(new Drone(1L, 10.0, 20.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        droneRepository.save(new Drone(2L, 15.0, 25.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+    }
+
+    @Test
+    void advanceDroneState_ShouldMoveDroneOutOfIdleIndex() {
+        droneRepository.advanceDroneState(1L);
+
+        assertEquals(1, droneRepository.findByState(DroneState.IDLE).size());
+        assertEquals(2L, droneRepository.findByState(DroneState.IDLE).get(0).getId());
+        assertEquals(DroneState.LOADING, droneRepository.findByState(DroneState.LOADING).get(0).getStatus());
+    }
+
+    @Test
+    void updateState_ShouldKeepCountsConsistentAcrossTransitions() {
+        droneRepository.updateState(1L, DroneState.IN_FLIGHT);
+        droneRepository.updateState(1L, DroneState.DELIVERING);
+        droneRepository.updateState(2L, DroneState.DELIVERING);
+
+        assertEquals(0, droneRepository.countByState(DroneState.IDLE));
+        assertEquals(0, droneRepository.countByState(DroneState.IN_FLIGHT));
+        assertEquals(2, droneRepository.countByState(DroneState.DELIVERING));
+    }
+
+    @Test
+    void capabilityEnvelope_ShouldKeepParetoFrontierAsFleetChanges() {
+        droneRepository.save(new Drone(3L, 8.0, 40.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        droneRepository.save(new Drone(4L, 12.0, 22.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+
+        FleetEnvelope envelope = droneRepository.capabilityEnvelope();
+        assertEquals(2, envelope.size());
+        assertTrue(envelope.admits(15.0, 12.5));
+        assertFalse(envelope.admits(15.0, 13.0));
+        assertTrue(envelope.admits(8.0, 20.0));
+        assertFalse(envelope.admits(9.0, 20.0));
+        assertFalse(envelope.admits(16.0, 1.0));
+
+        droneRepository.save(new Drone(2L, 11.0, 25.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+
+        assertFalse(droneRepository.capabilityEnvelope().admits(15.0, 1.0));
+        assertTrue(droneRepository.capabilityEnvelope().admits(11.0, 12.5));
+    }
+
+    @Test
+    void updateState_WhenDroneDoesNotExist_ThrowsDroneNotFoundException() {
+        assertThrows(DroneNotFoundException.class, () -> droneRepository.updateState(99L, DroneState.IDLE));
+    }
+
+    @Test
+    void findById_ShouldReturnImmutableSnapshotDetachedFromLaterMutations() {
+        droneRepository.addOrderToDrone(1L, order(1L));
+        Drone snapshot = droneRepository.findById(1L).orElseThrow();
+
+        droneRepository.addOrderToDrone(1L, order(2L));
+        droneRepository.moveDrone(1L, 5, 5);
+
+        assertEquals(1, snapshot.getOrders().size());
+        assertEquals(0, snapshot.getPositionX());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getOrders().add(order(3L)));
+        assertEquals(2, droneRepository.findById(1L).orElseThrow().getOrders().size());
+    }
+
+    @Test
+    void findById_ShouldNotLetCallersMutateStoredDrone() {
+        Drone snapshot = droneRepository.findById(1L).orElseThrow();
+        snapshot.setStatus(DroneState.DELIVERING);
+        snapshot.setPositionX(42);
+        droneRepository.findAll().forEach(drone -> drone.setStatus(DroneState.RETURNING));
+
+        Drone stored = droneRepository.findById(1L).orElseThrow();
+        assertEquals(DroneState.IDLE, stored.getStatus());
+        assertEquals(0, stored.getPositionX());
+        assertEquals(2, droneRepository.countByState(DroneState.IDLE));
+        assertEquals(DroneState.LOADING, droneRepository.transition(1L, DroneState.IDLE, DroneState.LOADING).getStatus());
+    }
+
+    @Test
+    void concurrentMutations_ShouldBeSerializedPerDrone() throws Exception {
+        int threads = 8;
+        int ordersPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long firstId = (long) t * ordersPerThread;
+                writers.add(executor.submit(() -> {
+                    for (long id = firstId; id < firstId + ordersPerThread; id++) {
+                        droneRepository.addOrderToDrone(1L, order(id));
+                        droneRepository.moveDrone(1L, (int) id, (int) id);
+                        Drone snapshot = droneRepository.findById(1L).orElseThrow();
+                        assertEquals(snapshot.getPositionX(), snapshot.getPositionY());
+                        if (id % 2 == 0) {
+                            droneRepository.removeOrderFromDrone(1L, id);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Drone drone = droneRepository.findById(1L).orElseThrow();
+        assertEquals(threads * ordersPerThread / 2, drone.getOrders().size());
+        assertTrue(drone.getOrders().stream().allMatch(order -> order.getId() % 2 == 1));
+        assertEquals(DroneState.IDLE, drone.getStatus());
+        assertEquals(2, droneRepository.countByState(DroneState.IDLE));
+    }
+
+    @Test
+    void concurrentTransitions_ShouldLeaveStateIndexConsistentOnReturn() throws Exception {
+        int drones = 8;
+        for (long id = 1; id <= drones; id++) {
+            droneRepository.save(new Drone(id, 10.0, 20.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(drones);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (long id = 1; id <= drones; id++) {
+                long droneId = id;
+                writers.add(executor.submit(() -> {
+                    for (int step = 0; step < 1_000 + droneId; step++) {
+                        droneRepository.advanceDroneState(droneId);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+
+            for (DroneState state : DroneState.values()) {
+                long inState = droneRepository.findAll().stream().filter(drone -> drone.getStatus() == state).count();
+                assertEquals(inState, droneRepository.countByState(state));
+                assertEquals(inState, droneRepository.findByState(state).size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void transition_WhenExpectedStateIsStale_ShouldRejectAndCountConflict() {
+        droneRepository.transition(1L, DroneState.IDLE, DroneState.LOADING);
+
+        assertThrows(DroneStateConflictException.class,
+            () -> droneRepository.transition(1L, DroneState.IDLE, DroneState.LOADING));
+        assertEquals(DroneState.LOADING, droneRepository.findById(1L).orElseThrow().getStatus());
+        assertEquals(1.0, meterRegistry.counter("simulator.drone.transition.rejected",
+            "from", "IDLE", "to", "LOADING", "reason", "stale").count());
+    }
+
+    @Test
+    void transition_WhenTargetIsNotReachable_ShouldRejectAsIllegal() {
+        assertThrows(DroneStateConflictException.class,
+            () -> droneRepository.transition(1L, DroneState.IDLE, DroneState.DELIVERING));
+
+        assertEquals(DroneState.IDLE, droneRepository.findById(1L).orElseThrow().getStatus());
+        assertEquals(1.0, meterRegistry.counter("simulator.drone.transition.rejected",
+            "from", "IDLE", "to", "DELIVERING", "reason", "illegal").count());
+    }
+
+    @Test
+    void transition_ShouldAllowFlyingToNextStopAfterDelivering() {
+        droneRepository.updateState(1L, DroneState.DELIVERING);
+
+        Drone drone = droneRepository.transition(1L, DroneState.DELIVERING, DroneState.IN_FLIGHT);
+
+        assertEquals(DroneState.IN_FLIGHT, drone.getStatus());
+        assertEquals(1, droneRepository.countByState(DroneState.IN_FLIGHT));
+    }
+
+    @Test
+    void addOrderToDrone_WhenDroneIsNotIdle_ShouldRejectAndCountAllocationConflict() {
+        droneRepository.transition(1L, DroneState.IDLE, DroneState.LOADING);
+
+        assertThrows(DroneNotAvailableException.class, () -> droneRepository.addOrderToDrone(1L, order(1L)));
+        assertTrue(droneRepository.findById(1L).orElseThrow().getOrders().isEmpty());
+        assertEquals(1.0, meterRegistry.counter("simulator.drone.allocation.rejected", "state", "LOADING").count());
+    }
+
+    @Test
+    void concurrentAllocationAndLoading_ShouldNeverDoubleBookDrone() throws Exception {
+        int allocators = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(allocators + 1);
+        try {
+            for (int round = 0; round < 50; round++) {
+                droneRepository.save(new Drone(1L, 10.0, 20.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicLong nextOrderId = new AtomicLong((long) round * 1_000);
+                List<Future<?>> allocations = new ArrayList<>();
+                for (int t = 0; t < allocators; t++) {
+                    allocations.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            while (true) {
+                                droneRepository.addOrderToDrone(1L, order(nextOrderId.incrementAndGet()));
+                            }
+                        } catch (DroneNotAvailableException e) {
+                            return null;
+                        }
+                    }));
+                }
+                Future<Drone> loading = executor.submit(() -> {
+                    start.await();
+                    Thread.yield();
+                    return droneRepository.transition(1L, DroneState.IDLE, DroneState.LOADING);
+                });
+
+                start.countDown();
+                Drone loaded = loading.get();
+                for (Future<?> allocation : allocations) {
+                    allocation.get();
+                }
+
+                assertEquals(loaded.getOrders(), droneRepository.findById(1L).orElseThrow().getOrders());
+                assertEquals(DroneState.LOADING, droneRepository.findById(1L).orElseThrow().getStatus());
+                assertEquals(1, droneRepository.countByState(DroneState.LOADING));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Order order(long id) {
+        return new Order(id, 1, 1, 0.1, OrderPriority.LOW, OrderState.PENDING);
+    }
+}
@@ -0,0 +1,87 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryOrderRepositoryTest {
+
+    private InMemoryOrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+    }
+
+    @Test
+    void findPendingOrders_ShouldReturnOnlyPendingOrdersInIdOrder() {
+        orderRepository.save(new Order(2L, 10, 10, 1.0, OrderPriority.LOW, OrderState.PENDING));
+        orderRepository.save(new Order(1L, 20, 20, 2.0, OrderPriority.HIGH, OrderState.PENDING));
+        orderRepository.save(new Order(3L, 30, 30, 3.0, OrderPriority.MEDIUM, OrderState.RECUSED));
+
+        List<Order> pending = orderRepository.findPendingOrders();
+
+        assertEquals(2, pending.size());
+        assertEquals(1L, pending.get(0).getId());
+        assertEquals(2L, pending.get(1).getId());
+    }
+
+    @Test
+    void update_WhenPendingOrderMoves_ShouldMoveItInSpatialIndex() {
+        orderRepository.save(new Order(1L, 5, 5, 1.0, OrderPriority.LOW, OrderState.PENDING));
+        orderRepository.update(new Order(1L, 80, -40, 1.0, OrderPriority.LOW, OrderState.PENDING));
+
+        assertTrue(orderRepository.findPendingWithinRadius(5, 5, 1).isEmpty());
+        List<Order> moved = orderRepository.findPendingWithinRadius(80, -40, 1);
+        assertEquals(1, moved.size());
+        assertEquals(80, moved.get(0).getClientPositionX());
+    }
+
+    @Test
+    void update_ShouldMoveOrderBetweenStateIndexes() {
+        Order order = new Order(1L, 10, 10, 1.0, OrderPriority.LOW, OrderState.PENDING);
+        orderRepository.save(order);
+
+        order.setState(OrderState.ALLOCATED);
+        orderRepository.update(order);
+
+        assertTrue(orderRepository.findPendingOrders().isEmpty());
+        assertEquals(0, orderRepository.countByState(OrderState.PENDING));
+        assertEquals(1, orderRepository.countByState(OrderState.ALLOCATED));
+        assertEquals(order, orderRepository.findByState(OrderState.ALLOCATED).get(0));
+    }
+
+    @Test
+    void findPendingOrders_WhenStateChangedBeforeUpdate_ShouldSkipStaleEntry() {
+        Order order = new Order(1L, 10, 10, 1.0, OrderPriority.LOW, OrderState.PENDING);
+        orderRepository.save(order);
+
+        order.setState(OrderState.ALLOCATED);
+
+        assertTrue(orderRepository.findPendingOrders().isEmpty());
+    }
+
+    @Test
+    void findAll_ShouldReturnEveryOrderOnceAfterUpdates() {
+        Order order = new Order(1L, 10, 10, 1.0, OrderPriority.LOW, OrderState.PENDING);
+        orderRepository.save(order);
+        orderRepository.save(new Order(2L, 20, 20, 2.0, OrderPriority.HIGH, OrderState.PENDING));
+
+        order.setState(OrderState.DELIVERED);
+        orderRepository.update(order);
+
+        List<Order> all = orderRepository.findAll();
+
+        assertEquals(2, all.size());
+        assertEquals(1L, all.get(0).getId());
+        assertTrue(orderRepository.findById(2L).isPresent());
+    }
+}
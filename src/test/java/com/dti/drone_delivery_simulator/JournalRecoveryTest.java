@@ -0,0 +1,213 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.dispatch.DispatchTrigger;
+import com.dti.drone_delivery_simulator.dto.OrderRequestDTO;
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.enums.RouteStatus;
+import com.dti.drone_delivery_simulator.journal.JournalRecovery;
+import com.dti.drone_delivery_simulator.journal.MappedEventJournal;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.model.Route;
+import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryRouteRepository;
+import com.dti.drone_delivery_simulator.retention.RetentionArchive;
+import com.dti.drone_delivery_simulator.retention.RetentionService;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.ExactRouteSolver;
+import com.dti.drone_delivery_simulator.routing.RouteImprover;
+import com.dti.drone_delivery_simulator.service.DroneService;
+import com.dti.drone_delivery_simulator.service.OrderService;
+import com.dti.drone_delivery_simulator.service.RouteService;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+import com.dti.drone_delivery_simulator.simulation.VirtualClock;
+import com.dti.drone_delivery_simulator.snapshot.SnapshotService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalRecoveryTest {
+
+    @TempDir
+    Path journalDirectory;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    @Test
+    void recover_ShouldRebuildRepositoriesAndResetInterruptedDeliveries() {
+        Simulation before = new Simulation(openJournal());
+        before.droneRepository.save(new Drone(1L, 10.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+
+        Order delivered = before.orderService.createOrder(new OrderRequestDTO(3, 4, 1.0, OrderPriority.HIGH));
+        Order inFlight = before.orderService.createOrder(new OrderRequestDTO(6, 8, 2.0, OrderPriority.LOW));
+        before.orderService.createOrder(new OrderRequestDTO(1, 1, 1.0, OrderPriority.MEDIUM));
+
+        before.droneRepository.addOrderToDrone(1L, inFlight);
+        inFlight.setState(OrderState.ON_ROUTE);
+        before.orderRepository.update(inFlight);
+        delivered.setState(OrderState.DELIVERED);
+        before.orderRepository.update(delivered);
+        before.droneRepository.updateState(1L, DroneState.IN_FLIGHT);
+
+        Route route = before.routeService.createRoute(before.droneRepository.findById(1L).orElseThrow(), List.of(inFlight));
+        before.routeService.updateStatusRoute(route.getId(), RouteStatus.IN_PROGRESS);
+        before.journal.close();
+
+        Simulation after = new Simulation(openJournal());
+        after.recover();
+
+        assertEquals(3, after.orderRepository.findAll().size());
+        assertEquals(OrderState.DELIVERED, after.orderRepository.findById(delivered.getId()).orElseThrow().getState());
+        assertEquals(OrderState.PENDING, after.orderRepository.findById(inFlight.getId()).orElseThrow().getState());
+        assertEquals(2, after.orderRepository.findPendingOrders().size());
+        assertTrue(after.distanceMatrix.slotOf(inFlight.getId()) > 0);
+
+        Drone drone = after.droneRepository.findById(1L).orElseThrow();
+        assertEquals(DroneState.IDLE, drone.getStatus());
+        assertTrue(drone.getOrders().isEmpty());
+
+        Route recoveredRoute = after.routeRepository.findById(route.getId()).orElseThrow();
+        assertEquals(RouteStatus.IN_PROGRESS, recoveredRoute.getStatus());
+        assertEquals(inFlight.getId(), recoveredRoute.getOrders().get(0).getId());
+
+        Order next = after.orderService.createOrder(new OrderRequestDTO(2, 2, 1.0, OrderPriority.LOW));
+        assertEquals(4L, next.getId());
+        after.journal.close();
+    }
+
+    @Test
+    void replay_ShouldContinueAcrossRotatedSegments() {
+        Simulation before = new Simulation(new MappedEventJournal(true, journalDirectory.toString(), 1024, 5));
+        before.droneRepository.save(new Drone(1L, 10.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        for (int i = 0; i < 200; i++) {
+            before.orderService.createOrder(new OrderRequestDTO(i % 10, 1, 1.0, OrderPriority.LOW));
+        }
+        before.journal.close();
+
+        Simulation after = new Simulation(new MappedEventJournal(true, journalDirectory.toString(), 1024, 5));
+        after.recover();
+
+        assertEquals(200, after.orderRepository.countByState(OrderState.PENDING));
+        after.journal.close();
+    }
+
+    @Test
+    void recover_ShouldLoadSnapshotAndReplayOnlyJournalTail() throws Exception {
+        Simulation before = new Simulation(openJournal());
+        before.droneRepository.save(new Drone(1L, 10.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        for (int i = 0; i < 5; i++) {
+            before.orderService.createOrder(new OrderRequestDTO(i, 1, 1.0, OrderPriority.LOW));
+        }
+        Order delivered = before.orderRepository.findById(1L).orElseThrow();
+        delivered.setState(OrderState.DELIVERED);
+        before.orderRepository.update(delivered);
+        before.routeService.createRoute(before.droneRepository.findById(1L).orElseThrow(), List.of(delivered));
+
+        Path snapshot = before.snapshotService.takeSnapshot();
+        assertTrue(Files.exists(snapshot));
+
+        before.orderService.createOrder(new OrderRequestDTO(9, 9, 2.0, OrderPriority.HIGH));
+        before.journal.close();
+
+        Simulation after = new Simulation(openJournal());
+        after.recover();
+
+        assertEquals(6, after.orderRepository.findAll().size());
+        assertEquals(OrderState.DELIVERED, after.orderRepository.findById(1L).orElseThrow().getState());
+        assertEquals(5, after.orderRepository.countByState(OrderState.PENDING));
+        assertEquals(1, after.routeRepository.count());
+        Order next = after.orderService.createOrder(new OrderRequestDTO(2, 2, 1.0, OrderPriority.LOW));
+        assertEquals(7L, next.getId());
+        assertEquals(2L, after.routeService.createRoute(
+            after.droneRepository.findById(1L).orElseThrow(), List.of(next)).getId());
+        assertEquals(1L, after.meterRegistry.timer("simulator.recovery.duration").count());
+        after.journal.close();
+    }
+
+    @Test
+    void recover_ShouldRestoreArchivedRecordsFromSnapshotAndJournal() {
+        Simulation before = new Simulation(openJournal());
+        before.droneRepository.save(new Drone(1L, 10.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        for (int i = 0; i < 4; i++) {
+            Order order = before.orderService.createOrder(new OrderRequestDTO(i, 2, 1.0, OrderPriority.LOW));
+            order.setState(OrderState.DELIVERED);
+            before.orderRepository.update(order);
+        }
+        Route route = before.routeService.createRoute(before.droneRepository.findById(1L).orElseThrow(),
+            List.of(before.orderRepository.findById(1L).orElseThrow()));
+        before.routeService.updateStatusRoute(route.getId(), RouteStatus.COMPLETED);
+
+        before.retentionService.archiveRoute(route.getId());
+        before.retentionService.archiveOrder(1L);
+        before.retentionService.archiveOrder(2L);
+        before.snapshotService.takeSnapshot();
+        before.retentionService.archiveOrder(3L);
+        before.journal.close();
+
+        Simulation after = new Simulation(openJournal());
+        after.recover();
+
+        assertEquals(1, after.orderRepository.findAll().size());
+        assertEquals(3, after.retentionArchive.countOrders());
+        assertEquals(4, after.orderService.findAll().size());
+        assertEquals(4, after.orderService.countByState(OrderState.DELIVERED));
+        assertEquals(0, after.routeRepository.count());
+        assertEquals(route.getId(), after.routeService.findAllRoutes().get(0).id());
+        assertEquals(1, after.routeService.countRoutedOrders());
+        after.journal.close();
+    }
+
+    private MappedEventJournal openJournal() {
+        return new MappedEventJournal(true, journalDirectory.toString(), 1 << 16, 5);
+    }
+
+    private class Simulation {
+        final MappedEventJournal journal;
+        final InMemoryOrderRepository orderRepository;
+        final InMemoryDroneRepository droneRepository;
+        final InMemoryRouteRepository routeRepository;
+        final RouteService routeService;
+        final OrderService orderService;
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final RetentionArchive retentionArchive = new RetentionArchive();
+        final DispatchQueue dispatchQueue = new DispatchQueue(meterRegistry, 30_000);
+        final DistanceMatrix distanceMatrix = new DistanceMatrix(64);
+        final SnapshotService snapshotService;
+        final RetentionService retentionService;
+
+        Simulation(MappedEventJournal journal) {
+            this.journal = journal;
+            this.orderRepository = new InMemoryOrderRepository(journal);
+            this.droneRepository = new InMemoryDroneRepository(journal);
+            this.routeRepository = new InMemoryRouteRepository(journal);
+            this.routeService = new RouteService(routeRepository, retentionArchive,
+                new RouteImprover(0, 0, distanceMatrix), new ExactRouteSolver(0, 0, distanceMatrix));
+            this.orderService = new OrderService(orderRepository, new DroneService(droneRepository), routeService,
+                retentionArchive, dispatchQueue, new DispatchTrigger(new SimulationEngine(new VirtualClock()), 0, 0),
+                distanceMatrix);
+            this.snapshotService = new SnapshotService(journal, orderRepository, droneRepository, routeRepository,
+                orderService, retentionArchive, meterRegistry, true, snapshotDirectory.toString(), 2);
+            this.retentionService = new RetentionService(orderRepository, routeRepository, routeService,
+                retentionArchive, journal, new SimulationEngine(new VirtualClock(), false), true, 0);
+        }
+
+        void recover() {
+            new JournalRecovery(journal, orderRepository, droneRepository, routeRepository,
+                orderService, snapshotService, retentionService, dispatchQueue, distanceMatrix, meterRegistry).recover();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.batch.BatchWorkload;
+import com.dti.drone_delivery_simulator.batch.WorkloadProfile;
+import com.dti.drone_delivery_simulator.capacity.DroneMix;
+import com.dti.drone_delivery_simulator.capacity.FleetScenario;
+import com.dti.drone_delivery_simulator.capacity.FleetSimulation;
+import com.dti.drone_delivery_simulator.capacity.FleetSizingOptions;
+import com.dti.drone_delivery_simulator.capacity.FleetSizingReport;
+import com.dti.drone_delivery_simulator.capacity.MonteCarloFleetSizer;
+import com.dti.drone_delivery_simulator.capacity.ScenarioOutcome;
+import com.dti.drone_delivery_simulator.capacity.ScenarioSummary;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloFleetSizerTest {
+
+    private static final DroneMix MIX = DroneMix.parse("10x25");
+
+    @Test
+    void simulation_ShouldBeReproducibleForSameSeed() {
+        FleetScenario scenario = new FleetScenario(3, MIX, 500);
+
+        ScenarioOutcome first = simulate(scenario, 11);
+        ScenarioOutcome second = simulate(scenario, 11);
+
+        assertEquals(200, first.delivered());
+        assertEquals(first, second);
+        assertTrue(first.utilization() > 0 && first.utilization() <= 1);
+    }
+
+    @Test
+    void run_ShouldLowerLatencyAsFleetGrows() {
+        FleetSizingOptions options = new FleetSizingOptions(new int[] { 2, 8 }, List.of(MIX), new long[] { 500 },
+            3, 200, 42, WorkloadProfile.DEFAULT, 2, "first-fit", 512);
+
+        FleetSizingReport report = new MonteCarloFleetSizer(options).run();
+
+        assertEquals(6, report.simulations());
+        ScenarioSummary small = report.summaries().get(0);
+        ScenarioSummary large = report.summaries().get(1);
+        assertEquals(2, small.scenario().fleetSize());
+        assertEquals(8, large.scenario().fleetSize());
+        assertEquals(1.0, small.deliveredRatio());
+        assertEquals(1.0, large.deliveredRatio());
+        assertTrue(large.latencyP95Seconds() < small.latencyP95Seconds());
+        assertTrue(large.utilization() < small.utilization());
+    }
+
+    @Test
+    void droneMix_ShouldCycleThroughWeightedTypes() {
+        DroneMix mix = DroneMix.parse("10x25:2+15x30");
+
+        assertEquals(10.0, mix.droneAt(0).payloadKg());
+        assertEquals(10.0, mix.droneAt(1).payloadKg());
+        assertEquals(30.0, mix.droneAt(2).rangeKm());
+        assertEquals(10.0, mix.droneAt(3).payloadKg());
+        assertThrows(IllegalArgumentException.class, () -> DroneMix.parse("10-25"));
+    }
+
+    private ScenarioOutcome simulate(FleetScenario scenario, long seed) {
+        return new FleetSimulation(scenario, "first-fit", 512)
+            .run(BatchWorkload.uniform(200, seed, 8, scenario.arrivalIntervalMs()).iterator(), seed);
+    }
+}
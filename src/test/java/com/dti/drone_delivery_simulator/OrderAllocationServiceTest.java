@@ -1,20 +1,27 @@
 package com.dti.drone_delivery_simulator;
 
+import com.dti.drone_delivery_simulator.allocation.AllocationStrategy;
+import com.dti.drone_delivery_simulator.allocation.FirstFitStrategy;
+import com.dti.drone_delivery_simulator.allocation.PartitionedAllocator;
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
 import com.dti.drone_delivery_simulator.enums.DroneState;
 import com.dti.drone_delivery_simulator.enums.OrderPriority;
 import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.exception.DroneNotAvailableException;
 import com.dti.drone_delivery_simulator.model.Drone;
 import com.dti.drone_delivery_simulator.model.Order;
 import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
 import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
 import com.dti.drone_delivery_simulator.service.OrderAllocationService;
-import com.dti.drone_delivery_simulator.service.RouteService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
@@ -25,9 +32,8 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,8 +45,14 @@ class OrderAllocationServiceTest {
     @Mock
     private InMemoryDroneRepository droneRepository;
 
+    @Spy
+    private DispatchQueue dispatchQueue = new DispatchQueue(new SimpleMeterRegistry(), 30_000);
+
     @Mock
-    private RouteService routeService;
+    private PartitionedAllocator partitionedAllocator;
+
+    @Spy
+    private AllocationStrategy allocationStrategy = new FirstFitStrategy();
 
     @InjectMocks
     private OrderAllocationService orderAllocationService;
@@ -61,17 +73,9 @@ class OrderAllocationServiceTest {
 
     @Test
     void testAllocatePendingOrders_WhenDroneAndOrderAreCompatible() {
-        List<Order> pendingOrders = new ArrayList<>(Arrays.asList(compatibleOrder));
-        
-        when(orderRepository.findPendingOrders()).thenReturn(pendingOrders);
+        dispatchQueue.enqueue(compatibleOrder);
         when(droneRepository.findByState(DroneState.IDLE)).thenReturn(Arrays.asList(drone));
 
-        when(routeService.calculateRouteDistance(
-                argThat(list -> list.contains(compatibleOrder)),
-                anyInt(),
-                anyInt()))
-            .thenReturn(50.0);
-
         when(droneRepository.addOrderToDrone(drone.getId(), compatibleOrder)).thenReturn(drone);
 
         List<Drone> result = orderAllocationService.allocatePendingOrders();
@@ -87,7 +91,7 @@ class OrderAllocationServiceTest {
 
     @Test
     void testAllocatePendingOrders_WhenOrderIsTooHeavy() {
-        when(orderRepository.findPendingOrders()).thenReturn(Arrays.asList(heavyOrder));
+        dispatchQueue.enqueue(heavyOrder);
         when(droneRepository.findByState(DroneState.IDLE)).thenReturn(Arrays.asList(drone));
 
         List<Drone> result = orderAllocationService.allocatePendingOrders();
@@ -102,15 +106,9 @@ class OrderAllocationServiceTest {
 
     @Test
     void testAllocatePendingOrders_WhenOrderIsTooDistant() {
-        when(orderRepository.findPendingOrders()).thenReturn(Arrays.asList(distantOrder));
+        dispatchQueue.enqueue(distantOrder);
         when(droneRepository.findByState(DroneState.IDLE)).thenReturn(Arrays.asList(drone));
 
-        when(routeService.calculateRouteDistance(
-                argThat(list -> list.contains(distantOrder)),
-                anyInt(),
-                anyInt()))
-            .thenReturn(150.0);
-
         List<Drone> result = orderAllocationService.allocatePendingOrders();
 
         assertEquals(1, result.size());
@@ -123,7 +121,6 @@ class OrderAllocationServiceTest {
 
     @Test
     void testAllocatePendingOrders_WhenNoPendingOrders() {
-        when(orderRepository.findPendingOrders()).thenReturn(Collections.emptyList());
         when(droneRepository.findByState(DroneState.IDLE)).thenReturn(Arrays.asList(drone));
 
         List<Drone> result = orderAllocationService.allocatePendingOrders();
@@ -136,13 +133,90 @@ class OrderAllocationServiceTest {
 
     @Test
     void testAllocatePendingOrders_WhenNoAvailableDrones() {
-        when(orderRepository.findPendingOrders()).thenReturn(Arrays.asList(compatibleOrder));
         when(droneRepository.findByState(DroneState.IDLE)).thenReturn(Collections.emptyList());
 
         List<Drone> result = orderAllocationService.allocatePendingOrders();
 
         assertTrue(result.isEmpty());
+        verify(dispatchQueue, never()).inDispatchOrder();
         verify(droneRepository, never()).addOrderToDrone(anyLong(), any(Order.class));
         verify(orderRepository, never()).update(any(Order.class));
     }
+
+    @Test
+    void testAllocatePendingOrders_ShouldStopWhenInsertedTourExceedsRange() {
+        Order east = new Order(4L, 20, 0, 1.0, OrderPriority.LOW, OrderState.PENDING);
+        Order eastFar = new Order(5L, 30, 0, 1.0, OrderPriority.LOW, OrderState.PENDING);
+        Order north = new Order(6L, 0, 30, 1.0, OrderPriority.LOW, OrderState.PENDING);
+
+        dispatchQueue.enqueueAll(Arrays.asList(east, eastFar, north));
+        when(droneRepository.findByState(DroneState.IDLE)).thenReturn(Arrays.asList(drone));
+
+        orderAllocationService.allocatePendingOrders();
+
+        verify(droneRepository).addOrderToDrone(drone.getId(), east);
+        verify(droneRepository).addOrderToDrone(drone.getId(), eastFar);
+        verify(droneRepository, never()).addOrderToDrone(drone.getId(), north);
+        assertEquals(OrderState.PENDING, north.getState());
+    }
+
+    @Test
+    void testAllocatePendingOrders_ShouldServeHighPriorityBeforeOlderLowPriorityBacklog() {
+        Drone smallDrone = new Drone(2L, 5.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>());
+        Order low = new Order(7L, 5, 5, 5.0, OrderPriority.LOW, OrderState.PENDING);
+        Order high = new Order(8L, 5, 5, 5.0, OrderPriority.HIGH, OrderState.PENDING);
+        dispatchQueue.enqueue(low);
+        dispatchQueue.enqueue(high);
+
+        when(droneRepository.findByState(DroneState.IDLE)).thenReturn(Arrays.asList(smallDrone));
+
+        orderAllocationService.allocatePendingOrders();
+
+        verify(droneRepository).addOrderToDrone(smallDrone.getId(), high);
+        verify(droneRepository, never()).addOrderToDrone(smallDrone.getId(), low);
+        assertEquals(List.of(low), dispatchQueue.inDispatchOrder());
+    }
+
+    @Test
+    void testAllocatePendingOrders_WhenOneDroneIsTakenConcurrently_ShouldKeepItsOrdersQueuedAndContinue() {
+        Drone otherDrone = new Drone(2L, 20.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>());
+        Order light = new Order(9L, 5, 5, 5.0, OrderPriority.HIGH, OrderState.PENDING);
+        Order heavy = new Order(10L, 5, 5, 18.0, OrderPriority.LOW, OrderState.PENDING);
+        dispatchQueue.enqueueAll(Arrays.asList(light, heavy));
+
+        when(droneRepository.findByState(DroneState.IDLE)).thenReturn(Arrays.asList(drone, otherDrone));
+        when(droneRepository.addOrderToDrone(drone.getId(), light))
+            .thenThrow(new DroneNotAvailableException("Drone not available"));
+
+        orderAllocationService.allocatePendingOrders();
+
+        verify(droneRepository).addOrderToDrone(otherDrone.getId(), heavy);
+        assertEquals(OrderState.PENDING, light.getState());
+        assertEquals(OrderState.ALLOCATED, heavy.getState());
+        assertEquals(List.of(light), dispatchQueue.inDispatchOrder());
+    }
+
+    @Test
+    void testAllocatePendingOrders_ShouldPruneLargeQueueToOrdersWithinFleetReach() {
+        List<Order> reachable = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            Order order = id % 30 == 0
+                ? new Order(id, 1, 1, 0.1, OrderPriority.LOW, OrderState.PENDING)
+                : new Order(id, 200, 200, 0.1, OrderPriority.LOW, OrderState.PENDING);
+            if (id % 30 == 0) {
+                reachable.add(order);
+            }
+            dispatchQueue.enqueue(order);
+        }
+        when(droneRepository.findByState(DroneState.IDLE)).thenReturn(Arrays.asList(drone));
+        when(orderRepository.findPendingWithinRadius(0, 0, 50.0)).thenReturn(reachable);
+
+        orderAllocationService.allocatePendingOrders();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Order>> candidates = ArgumentCaptor.forClass(List.class);
+        verify(allocationStrategy).plan(eq(List.of(drone)), candidates.capture());
+        assertEquals(reachable, candidates.getValue());
+        verify(droneRepository, times(10)).addOrderToDrone(eq(drone.getId()), any(Order.class));
+    }
 }
\ No newline at end of file
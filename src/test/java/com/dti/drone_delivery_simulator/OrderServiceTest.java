@@ -1,13 +1,18 @@
 package com.dti.drone_delivery_simulator;
 
-import com.dti.drone_delivery_simulator.dto.DroneStatusResponseDTO;
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.dispatch.DispatchTrigger;
 import com.dti.drone_delivery_simulator.dto.OrderRequestDTO;
 import com.dti.drone_delivery_simulator.enums.DroneState;
 import com.dti.drone_delivery_simulator.enums.OrderPriority;
 import com.dti.drone_delivery_simulator.enums.OrderState;
 import com.dti.drone_delivery_simulator.exception.OrderPayloadException;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.FleetEnvelope;
 import com.dti.drone_delivery_simulator.model.Order;
 import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+import com.dti.drone_delivery_simulator.retention.RetentionArchive;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
 import com.dti.drone_delivery_simulator.service.DroneService;
 import com.dti.drone_delivery_simulator.service.OrderService;
 import com.dti.drone_delivery_simulator.service.RouteService;
@@ -20,13 +25,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.Spy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +48,18 @@ class OrderServiceTest {
     @Mock
     private RouteService routeService;
 
+    @Mock
+    private RetentionArchive retentionArchive;
+
+    @Mock
+    private DispatchQueue dispatchQueue;
+
+    @Mock
+    private DispatchTrigger dispatchTrigger;
+
+    @Mock
+    private DistanceMatrix distanceMatrix;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -48,15 +67,15 @@ class OrderServiceTest {
     private AtomicLong idGenerator = new AtomicLong(1);
 
     private OrderRequestDTO validOrderRequest;
-    private DroneStatusResponseDTO capableDrone;
-    private DroneStatusResponseDTO incapableDrone;
+    private Drone capableDrone;
+    private Drone incapableDrone;
 
     @BeforeEach
     void setUp() {
         validOrderRequest = new OrderRequestDTO(10, 10, 5.0, OrderPriority.LOW);
 
-        capableDrone = new DroneStatusResponseDTO(1L, 10.0, 30.0, DroneState.IDLE);
-        incapableDrone = new DroneStatusResponseDTO(2L, 4.0, 10.0, DroneState.IDLE);
+        capableDrone = new Drone(1L, 10.0, 30.0, DroneState.IDLE, 0, 0, new ArrayList<>());
+        incapableDrone = new Drone(2L, 4.0, 10.0, DroneState.IDLE, 0, 0, new ArrayList<>());
     }
 
     @Test
@@ -75,7 +94,7 @@ class OrderServiceTest {
 
     @Test
     void createOrder_WhenThereIsADroneCapable_CreatesPendingOrder() {
-        when(droneService.getAllDrones()).thenReturn(Arrays.asList(incapableDrone, capableDrone));
+        when(droneService.getCapabilityEnvelope()).thenReturn(FleetEnvelope.of(Arrays.asList(incapableDrone, capableDrone)));
         when(routeService.calculateDistance(any(Integer.class), any(Integer.class), any(Integer.class), any(Integer.class))).thenReturn(10.0);
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -85,11 +104,13 @@ class OrderServiceTest {
         assertEquals(OrderState.PENDING, createdOrder.getState());
         assertEquals(validOrderRequest.payloadKg(), createdOrder.getPayloadKg());
         assertEquals(1L, createdOrder.getId());
+        verify(dispatchTrigger).signal();
+        verify(distanceMatrix).register(createdOrder);
     }
 
     @Test
     void createOrder_WhenNoDroneIsCapable_CreatesRefusedOrder() {
-        when(droneService.getAllDrones()).thenReturn(Arrays.asList(incapableDrone));
+        when(droneService.getCapabilityEnvelope()).thenReturn(FleetEnvelope.of(Arrays.asList(incapableDrone)));
         when(routeService.calculateDistance(any(Integer.class), any(Integer.class), any(Integer.class), any(Integer.class))).thenReturn(10.0);
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -98,11 +119,12 @@ class OrderServiceTest {
         assertNotNull(createdOrder);
         assertEquals(OrderState.RECUSED, createdOrder.getState());
         assertEquals(validOrderRequest.payloadKg(), createdOrder.getPayloadKg());
+        verify(dispatchTrigger, never()).signal();
     }
 
     @Test
     void createOrder_WhenNoDronesExist_CreatesRefusedOrder() {
-        when(droneService.getAllDrones()).thenReturn(Collections.emptyList());
+        when(droneService.getCapabilityEnvelope()).thenReturn(FleetEnvelope.EMPTY);
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Order createdOrder = orderService.createOrder(validOrderRequest);
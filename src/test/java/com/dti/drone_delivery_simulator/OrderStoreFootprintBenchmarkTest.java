@@ -0,0 +1,58 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.repository.ColumnarOrderRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+import com.dti.drone_delivery_simulator.repository.OrderRepository;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+class OrderStoreFootprintBenchmarkTest {
+
+    private static final int ORDERS = 1_000_000;
+
+    @Test
+    void compareBytesPerOrder() {
+        double heap = measureBytesPerOrder(InMemoryOrderRepository::new);
+        double columnar = measureBytesPerOrder(ColumnarOrderRepository::new);
+
+        System.out.printf("heap store: %.1f bytes/order%n", heap);
+        System.out.printf("columnar store: %.1f bytes/order%n", columnar);
+    }
+
+    private double measureBytesPerOrder(Supplier<OrderRepository> factory) {
+        long before = usedHeap();
+        OrderRepository repository = factory.get();
+        OrderPriority[] priorities = OrderPriority.values();
+
+        for (int i = 1; i <= ORDERS; i++) {
+            Order order = new Order((long) i, i % 1000, i % 777, 1.0 + i % 10, priorities[i % 3], OrderState.PENDING);
+            repository.save(order);
+            if (i % 2 == 0) {
+                order.setState(OrderState.DELIVERED);
+                repository.update(order);
+            }
+        }
+
+        long after = usedHeap();
+        double bytesPerOrder = (double) (after - before) / ORDERS;
+        assertEquals(ORDERS / 2, repository.countByState(OrderState.PENDING));
+        return bytesPerOrder;
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,67 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.allocation.FirstFitStrategy;
+import com.dti.drone_delivery_simulator.allocation.PartitionedAllocator;
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+import com.dti.drone_delivery_simulator.service.OrderAllocationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class ParallelAllocationBenchmarkTest {
+
+    private static final int ORDERS = 200_000;
+    private static final int DRONES = 2_000;
+
+    @Test
+    void reportCycleTimeByPartitionCount() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int partitions : new int[] {1, 2, 4, cores}) {
+            PartitionedAllocator allocator = new PartitionedAllocator(partitions > 1, partitions, 0);
+            InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+            InMemoryDroneRepository droneRepository = new InMemoryDroneRepository();
+            DispatchQueue dispatchQueue = new DispatchQueue(new SimpleMeterRegistry(), 30_000);
+            populate(orderRepository, droneRepository, dispatchQueue);
+
+            OrderAllocationService service = new OrderAllocationService(orderRepository, droneRepository,
+                dispatchQueue, allocator, new FirstFitStrategy());
+            long start = System.nanoTime();
+            service.allocatePendingOrders();
+            double millis = (System.nanoTime() - start) / 1e6;
+            allocator.close();
+
+            long allocated = orderRepository.countByState(OrderState.ALLOCATED);
+            System.out.printf("partitions=%d (cores=%d): %d orders allocated in %.1f ms%n",
+                partitions, cores, allocated, millis);
+            assertTrue(allocated > 0);
+        }
+    }
+
+    private void populate(InMemoryOrderRepository orderRepository, InMemoryDroneRepository droneRepository,
+            DispatchQueue dispatchQueue) {
+        Random random = new Random(3);
+        OrderPriority[] priorities = OrderPriority.values();
+        for (long id = 1; id <= ORDERS; id++) {
+            Order order = orderRepository.save(new Order(id, random.nextInt(401) - 200, random.nextInt(401) - 200,
+                0.5 + random.nextInt(8) * 0.5, priorities[random.nextInt(priorities.length)], OrderState.PENDING));
+            dispatchQueue.enqueue(order);
+        }
+        for (long id = 1; id <= DRONES; id++) {
+            droneRepository.save(new Drone(id, 40.0, 500.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+        }
+    }
+}
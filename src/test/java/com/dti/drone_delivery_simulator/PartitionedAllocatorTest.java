@@ -0,0 +1,144 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.allocation.FirstFitStrategy;
+import com.dti.drone_delivery_simulator.allocation.PartitionedAllocator;
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.ExactRouteSolver;
+import com.dti.drone_delivery_simulator.routing.RouteImprover;
+import com.dti.drone_delivery_simulator.service.OrderAllocationService;
+import com.dti.drone_delivery_simulator.service.RouteService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedAllocatorTest {
+
+    private final PartitionedAllocator partitionedAllocator = new PartitionedAllocator(true, 4, 1);
+
+    @AfterEach
+    void tearDown() {
+        partitionedAllocator.close();
+    }
+
+    @Test
+    void allocate_ShouldProduceValidAndDeterministicAssignments() {
+        Map<Long, List<Long>> first = allocate(new Fixture(2_000, 40));
+        Map<Long, List<Long>> second = allocate(new Fixture(2_000, 40));
+
+        assertEquals(first, second);
+
+        Set<Long> seen = new HashSet<>();
+        first.values().forEach(orderIds -> orderIds.forEach(id -> assertTrue(seen.add(id))));
+        assertFalse(seen.isEmpty());
+    }
+
+    @Test
+    void allocate_ShouldRespectPayloadAndRangeInEveryPartition() {
+        Fixture fixture = new Fixture(2_000, 40);
+        allocate(fixture);
+
+        RouteService routeService =
+            new RouteService(null, null, new RouteImprover(0, 0, new DistanceMatrix(0)),
+                new ExactRouteSolver(0, 0, new DistanceMatrix(0)));
+        for (Drone drone : fixture.droneRepository.findAll()) {
+            double payload = drone.getOrders().stream().mapToDouble(Order::getPayloadKg).sum();
+            assertTrue(payload <= drone.getMaxPayloadKg());
+            for (Order order : drone.getOrders()) {
+                assertEquals(OrderState.ALLOCATED, order.getState());
+                assertTrue(routeService.calculateDistance(0, 0, order.getClientPositionX(), order.getClientPositionY())
+                    <= drone.getMaxRangeKm() / 2);
+            }
+        }
+    }
+
+    @Test
+    void allocate_WhenCapacityIsAmple_ShouldPlaceEveryOrderAcrossPartitionBoundaries() {
+        Fixture fixture = new Fixture(200, 40);
+        allocate(fixture);
+
+        assertEquals(0, fixture.orderRepository.countByState(OrderState.PENDING));
+        assertEquals(200, fixture.orderRepository.countByState(OrderState.ALLOCATED));
+    }
+
+    @Test
+    void plan_ShouldMergeOnlyLeftoversNearSectorBoundaries() {
+        Order boundary = new Order(10L, 100, 20, 1.0, OrderPriority.LOW, OrderState.PENDING);
+        Order interior = new Order(10L, -30, 50, 1.0, OrderPriority.LOW, OrderState.PENDING);
+
+        assertTrue(leftoverIsMerged(boundary));
+        assertFalse(leftoverIsMerged(interior));
+    }
+
+    private boolean leftoverIsMerged(Order lastInUpperSector) {
+        PartitionedAllocator twoSectors = new PartitionedAllocator(true, 2, 1);
+        try {
+            List<Order> orders = new ArrayList<>();
+            for (long id = 1; id <= 5; id++) {
+                orders.add(new Order(id, -30 + 10 * (int) id, -50, 1.0, OrderPriority.LOW, OrderState.PENDING));
+            }
+            orders.add(new Order(6L, 100, 10, 1.0, OrderPriority.LOW, OrderState.PENDING));
+            orders.add(new Order(7L, 0, 50, 1.0, OrderPriority.LOW, OrderState.PENDING));
+            orders.add(new Order(8L, 10, 50, 1.0, OrderPriority.LOW, OrderState.PENDING));
+            orders.add(new Order(9L, -10, 50, 1.0, OrderPriority.LOW, OrderState.PENDING));
+            orders.add(lastInUpperSector);
+            List<Drone> drones = new ArrayList<>();
+            for (long id = 1; id <= 3; id++) {
+                drones.add(new Drone(id, 4.0, 1_000.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+            }
+
+            return twoSectors.plan(drones, orders, new FirstFitStrategy()::plan).stream()
+                .anyMatch(assignment -> assignment.orders().contains(lastInUpperSector));
+        } finally {
+            twoSectors.close();
+        }
+    }
+
+    private Map<Long, List<Long>> allocate(Fixture fixture) {
+        new OrderAllocationService(fixture.orderRepository, fixture.droneRepository, fixture.dispatchQueue,
+            partitionedAllocator, new FirstFitStrategy()).allocatePendingOrders();
+
+        Map<Long, List<Long>> result = new TreeMap<>();
+        for (Drone drone : fixture.droneRepository.findAll()) {
+            result.put(drone.getId(), drone.getOrders().stream().map(Order::getId).toList());
+        }
+        return result;
+    }
+
+    private static class Fixture {
+        final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        final InMemoryDroneRepository droneRepository = new InMemoryDroneRepository();
+        final DispatchQueue dispatchQueue = new DispatchQueue(new SimpleMeterRegistry(), 30_000);
+
+        Fixture(int orders, int drones) {
+            Random random = new Random(11);
+            OrderPriority[] priorities = OrderPriority.values();
+            for (long id = 1; id <= orders; id++) {
+                Order order = orderRepository.save(new Order(id, random.nextInt(201) - 100, random.nextInt(201) - 100,
+                    0.5 + random.nextInt(6), priorities[random.nextInt(priorities.length)], OrderState.PENDING));
+                dispatchQueue.enqueue(order);
+            }
+            for (long id = 1; id <= drones; id++) {
+                droneRepository.save(new Drone(id, 30.0, 300.0, DroneState.IDLE, 0, 0, new ArrayList<>()));
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.dispatch.DispatchQueue;
+import com.dti.drone_delivery_simulator.dispatch.DispatchTrigger;
+import com.dti.drone_delivery_simulator.dto.OrderRequestDTO;
+import com.dti.drone_delivery_simulator.dto.RouteResponseDTO;
+import com.dti.drone_delivery_simulator.enums.DroneState;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.enums.RouteStatus;
+import com.dti.drone_delivery_simulator.journal.EventJournal;
+import com.dti.drone_delivery_simulator.model.Drone;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.model.Route;
+import com.dti.drone_delivery_simulator.repository.InMemoryDroneRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryOrderRepository;
+import com.dti.drone_delivery_simulator.repository.InMemoryRouteRepository;
+import com.dti.drone_delivery_simulator.retention.RetentionArchive;
+import com.dti.drone_delivery_simulator.retention.RetentionService;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.ExactRouteSolver;
+import com.dti.drone_delivery_simulator.routing.RouteImprover;
+import com.dti.drone_delivery_simulator.service.DroneService;
+import com.dti.drone_delivery_simulator.service.OrderService;
+import com.dti.drone_delivery_simulator.service.RouteService;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+import com.dti.drone_delivery_simulator.simulation.VirtualClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetentionServiceTest {
+
+    private static final long RETENTION_AGE_MS = 1000;
+
+    private InMemoryOrderRepository orderRepository;
+    private InMemoryRouteRepository routeRepository;
+    private RetentionArchive archive;
+    private RouteService routeService;
+    private OrderService orderService;
+    private RetentionService retentionService;
+    private SimulationEngine simulationEngine;
+    private Drone drone;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        routeRepository = new InMemoryRouteRepository();
+        InMemoryDroneRepository droneRepository = new InMemoryDroneRepository();
+        archive = new RetentionArchive();
+        DistanceMatrix distanceMatrix = new DistanceMatrix(64);
+        routeService = new RouteService(routeRepository, archive, new RouteImprover(0, 0, distanceMatrix),
+            new ExactRouteSolver(0, 0, distanceMatrix));
+        orderService = new OrderService(orderRepository, new DroneService(droneRepository), routeService, archive,
+            new DispatchQueue(new SimpleMeterRegistry(), 30_000),
+            new DispatchTrigger(new SimulationEngine(new VirtualClock()), 0, 0), distanceMatrix);
+        simulationEngine = new SimulationEngine(new VirtualClock(), false);
+        retentionService = new RetentionService(orderRepository, routeRepository, routeService, archive,
+            EventJournal.NONE, simulationEngine, true, RETENTION_AGE_MS);
+
+        drone = new Drone(1L, 10.0, 100.0, DroneState.IDLE, 0, 0, new ArrayList<>());
+        droneRepository.save(drone);
+    }
+
+    @Test
+    void sweep_ShouldArchiveTerminalRecordsOnlyAfterRetentionAge() {
+        Order first = deliver(orderService.createOrder(new OrderRequestDTO(3, 4, 1.0, OrderPriority.HIGH)));
+        Order second = deliver(orderService.createOrder(new OrderRequestDTO(6, 8, 2.0, OrderPriority.LOW)));
+        Order pending = orderService.createOrder(new OrderRequestDTO(1, 1, 1.0, OrderPriority.MEDIUM));
+        Route completed = complete(routeService.createRoute(drone, List.of(first, second)));
+        Route active = routeService.createRoute(drone, List.of(pending));
+        routeService.updateStatusRoute(active.getId(), RouteStatus.IN_PROGRESS);
+
+        assertEquals(0, retentionService.sweep(0));
+        assertEquals(0, retentionService.sweep(RETENTION_AGE_MS - 1));
+        assertEquals(3, retentionService.sweep(RETENTION_AGE_MS));
+
+        assertEquals(List.of(pending), orderRepository.findAll());
+        assertEquals(1, routeRepository.count());
+        assertEquals(2, archive.countOrders());
+        assertEquals(1, archive.countRoutes());
+
+        List<Order> orders = orderService.findAll();
+        assertEquals(List.of(1L, 2L, 3L), orders.stream().map(Order::getId).toList());
+        assertEquals(OrderState.DELIVERED, orders.get(0).getState());
+        assertEquals(OrderPriority.LOW, orders.get(1).getPriority());
+        assertEquals(2, orderService.countByState(OrderState.DELIVERED));
+
+        List<RouteResponseDTO> routes = routeService.findAllRoutes();
+        assertEquals(List.of(completed.getId(), active.getId()), routes.stream().map(RouteResponseDTO::id).toList());
+        assertEquals(2, routes.get(0).orders().size());
+        assertEquals(6, routes.get(0).orders().get(1).clientPositionX());
+        assertEquals(1, routeService.findRoutesPage(null, 1).size());
+        assertEquals(active.getId(), routeService.findRoutesPage(completed.getId(), 10).get(0).id());
+        assertEquals(1, routeService.findRoutesByStatus(RouteStatus.COMPLETED).size());
+        assertEquals(2, routeService.findRoutesByDrone(1L).size());
+        assertEquals(2, routeService.countRoutes());
+        assertEquals(3, routeService.countRoutedOrders());
+    }
+
+    @Test
+    void sweep_ShouldKeepDeliveredOrdersReferencedByLiveRoutes() {
+        Order delivered = deliver(orderService.createOrder(new OrderRequestDTO(3, 4, 1.0, OrderPriority.HIGH)));
+        Route route = routeService.createRoute(drone, List.of(delivered));
+        routeService.updateStatusRoute(route.getId(), RouteStatus.IN_PROGRESS);
+
+        retentionService.sweep(0);
+        assertEquals(0, retentionService.sweep(RETENTION_AGE_MS));
+        assertTrue(orderRepository.findById(delivered.getId()).isPresent());
+
+        advanceTo(RETENTION_AGE_MS);
+        complete(route);
+        assertEquals(0, retentionService.sweep(2 * RETENTION_AGE_MS - 1));
+        assertEquals(2, retentionService.sweep(2 * RETENTION_AGE_MS));
+        assertTrue(orderRepository.findById(delivered.getId()).isEmpty());
+    }
+
+    @Test
+    void sweep_ShouldCountRetentionAgeFromTerminalTransitionInSimulatedTime() {
+        advanceTo(500);
+        Order delivered = deliver(orderService.createOrder(new OrderRequestDTO(3, 4, 1.0, OrderPriority.HIGH)));
+
+        assertEquals(0, retentionService.sweep(500 + RETENTION_AGE_MS - 1));
+        assertEquals(1, retentionService.sweep(500 + RETENTION_AGE_MS));
+        assertTrue(orderRepository.findById(delivered.getId()).isEmpty());
+    }
+
+    @Test
+    void sweep_WhenTransitionWasNotRecorded_ShouldCountFromFirstSweep() {
+        Order recovered = orderService.createOrder(new OrderRequestDTO(3, 4, 1.0, OrderPriority.HIGH));
+        recovered.setState(OrderState.DELIVERED);
+        orderRepository.update(recovered);
+
+        assertEquals(0, retentionService.sweep(RETENTION_AGE_MS));
+        assertEquals(1, retentionService.sweep(2 * RETENTION_AGE_MS));
+    }
+
+    private Route complete(Route route) {
+        routeService.updateStatusRoute(route.getId(), RouteStatus.COMPLETED);
+        retentionService.routeCompleted(route.getId());
+        return route;
+    }
+
+    private void advanceTo(long simulatedMs) {
+        simulationEngine.schedule(simulatedMs - simulationEngine.now(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS, () -> { });
+        simulationEngine.runUntilIdle();
+    }
+
+    private Order deliver(Order order) {
+        order.setState(OrderState.DELIVERED);
+        Order delivered = orderRepository.update(order);
+        retentionService.orderDelivered(delivered.getId());
+        return delivered;
+    }
+}
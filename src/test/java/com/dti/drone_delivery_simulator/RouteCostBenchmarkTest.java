@@ -0,0 +1,75 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class RouteCostBenchmarkTest {
+
+    private static final int STOPS = 12;
+    private static final int ROUNDS = 200_000;
+
+    @Test
+    void reportNanosPerLeg() {
+        Random random = new Random(7);
+        List<Order> route = new ArrayList<>();
+        int[] x = new int[STOPS];
+        int[] y = new int[STOPS];
+        for (int i = 0; i < STOPS; i++) {
+            x[i] = random.nextInt(201) - 100;
+            y[i] = random.nextInt(201) - 100;
+            route.add(new Order((long) i, x[i], y[i], 1.0, OrderPriority.LOW, OrderState.ALLOCATED));
+        }
+
+        double sink = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            sink += legacyRouteDistance(route);
+        }
+        double legacyNanos = (System.nanoTime() - start) / (double) ROUNDS / (STOPS + 1);
+
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            sink += RouteCost.tourKm(route);
+        }
+        double listNanos = (System.nanoTime() - start) / (double) ROUNDS / (STOPS + 1);
+
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            sink += RouteCost.tourKm(x, y, STOPS, RouteCost.BASE_X, RouteCost.BASE_Y);
+        }
+        double arrayNanos = (System.nanoTime() - start) / (double) ROUNDS / (STOPS + 1);
+
+        System.out.printf("sorted stream: %.1f ns/leg; order list: %.1f ns/leg; coordinate arrays: %.1f ns/leg%n",
+            legacyNanos, listNanos, arrayNanos);
+        assertTrue(sink > 0);
+    }
+
+    private double legacyRouteDistance(List<Order> orders) {
+        List<Order> sorted = orders.stream()
+            .sorted(Comparator.comparingDouble(
+                order -> RouteCost.fromBase(order.getClientPositionX(), order.getClientPositionY())))
+            .toList();
+        double total = 0;
+        int previousX = 0;
+        int previousY = 0;
+        for (Order order : sorted) {
+            total += RouteCost.distance(previousX, previousY, order.getClientPositionX(), order.getClientPositionY());
+            previousX = order.getClientPositionX();
+            previousY = order.getClientPositionY();
+        }
+        return total + RouteCost.distance(previousX, previousY, 0, 0);
+    }
+}
@@ -0,0 +1,76 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+import com.dti.drone_delivery_simulator.routing.ExactRouteSolver;
+import com.dti.drone_delivery_simulator.routing.RouteImprover;
+import com.dti.drone_delivery_simulator.service.RouteService;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class RouteImprovementBenchmarkTest {
+
+    private static final int ROUTES = 2_000;
+
+    @Test
+    void reportKmAndTimeByRoutingMethod() {
+        List<List<Order>> workload = workload();
+        DistanceMatrix distanceMatrix = new DistanceMatrix(0);
+        double nearestNeighbourKm = report("nearest-neighbour", workload, new RouteService(null, null,
+            new RouteImprover(0, 0, distanceMatrix), new ExactRouteSolver(0, 0, distanceMatrix)));
+        double localSearchKm = report("2-opt/or-opt", workload, new RouteService(null, null,
+            new RouteImprover(1_000, 5, distanceMatrix), new ExactRouteSolver(0, 0, distanceMatrix)));
+        double exactKm = report("held-karp", workload, new RouteService(null, null,
+            new RouteImprover(1_000, 5, distanceMatrix), new ExactRouteSolver(12, 4_096, distanceMatrix)));
+        double repeatedKm = report("held-karp (memo)", workload, new RouteService(null, null,
+            new RouteImprover(1_000, 5, distanceMatrix), new ExactRouteSolver(12, 4_096, distanceMatrix)), 2);
+
+        assertTrue(localSearchKm < nearestNeighbourKm);
+        assertTrue(exactKm <= localSearchKm + 1e-6);
+        assertTrue(repeatedKm <= exactKm + 1e-6);
+    }
+
+    private double report(String method, List<List<Order>> workload, RouteService routeService) {
+        return report(method, workload, routeService, 1);
+    }
+
+    private double report(String method, List<List<Order>> workload, RouteService routeService, int passes) {
+        double km = 0;
+        long nanos = 0;
+        for (int pass = 0; pass < passes; pass++) {
+            km = 0;
+            long start = System.nanoTime();
+            for (List<Order> orders : workload) {
+                km += RouteCost.tourKm(routeService.getOptimizedRoute(orders));
+            }
+            nanos = System.nanoTime() - start;
+        }
+        System.out.printf("%-18s %.0f km, %.1f us/route%n", method, km, nanos / 1e3 / workload.size());
+        return km;
+    }
+
+    private List<List<Order>> workload() {
+        Random random = new Random(31);
+        List<List<Order>> workload = new ArrayList<>(ROUTES);
+        for (int i = 0; i < ROUTES; i++) {
+            List<Order> orders = new ArrayList<>();
+            for (long id = 1; id <= 2 + random.nextInt(11); id++) {
+                orders.add(new Order(id, random.nextInt(101) - 50, random.nextInt(101) - 50, 1.0,
+                    OrderPriority.LOW, OrderState.ALLOCATED));
+            }
+            workload.add(orders);
+        }
+        return workload;
+    }
+}
@@ -0,0 +1,82 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+import com.dti.drone_delivery_simulator.routing.RouteImprover;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteImproverTest {
+
+    private final RouteImprover routeImprover = new RouteImprover(1_000, 1_000, new DistanceMatrix(0));
+
+    @Test
+    void improve_ShouldAccountForReturnLegToBase() {
+        Order middle = order(1L, 5, 5);
+        Order east = order(2L, 10, 0);
+        Order north = order(3L, 0, 10);
+        List<Order> nearestNeighbour = List.of(middle, east, north);
+
+        List<Order> improved = routeImprover.improve(nearestNeighbour);
+
+        assertEquals(34.14, RouteCost.tourKm(improved), 0.01);
+        assertEquals(middle, improved.get(1));
+        assertTrue(RouteCost.tourKm(improved) < RouteCost.tourKm(nearestNeighbour));
+    }
+
+    @Test
+    void improve_ShouldKeepEveryStopAndNeverLengthenTheTour() {
+        Random random = new Random(23);
+        for (int round = 0; round < 20; round++) {
+            List<Order> route = new ArrayList<>();
+            for (long id = 1; id <= 3 + random.nextInt(40); id++) {
+                route.add(order(id, random.nextInt(201) - 100, random.nextInt(201) - 100));
+            }
+
+            List<Order> improved = routeImprover.improve(route);
+
+            assertEquals(route.size(), improved.size());
+            assertEquals(new HashSet<>(route), new HashSet<>(improved));
+            assertTrue(RouteCost.tourKm(improved) <= RouteCost.tourKm(route) + 1e-9);
+        }
+    }
+
+    @Test
+    void improve_WithoutTimeBudget_ShouldBeBoundedOnlyByMoves() {
+        Random random = new Random(5);
+        List<Order> route = new ArrayList<>();
+        for (long id = 1; id <= 60; id++) {
+            route.add(order(id, random.nextInt(201) - 100, random.nextInt(201) - 100));
+        }
+
+        List<Order> unbounded = new RouteImprover(1_000, RouteImprover.NO_TIME_BUDGET, new DistanceMatrix(0)).improve(route);
+        List<Order> fewMoves = new RouteImprover(2, RouteImprover.NO_TIME_BUDGET, new DistanceMatrix(0)).improve(route);
+
+        assertEquals(routeImprover.improve(route), unbounded);
+        assertEquals(fewMoves, new RouteImprover(2, RouteImprover.NO_TIME_BUDGET, new DistanceMatrix(0)).improve(route));
+        assertTrue(RouteCost.tourKm(unbounded) < RouteCost.tourKm(fewMoves));
+        assertTrue(RouteCost.tourKm(fewMoves) < RouteCost.tourKm(route));
+    }
+
+    @Test
+    void improve_WithoutBudget_ShouldReturnRouteUnchanged() {
+        List<Order> route = List.of(order(1L, 5, 5), order(2L, 10, 0), order(3L, 0, 10));
+
+        assertSame(route, new RouteImprover(0, 5, new DistanceMatrix(0)).improve(route));
+        assertSame(route, new RouteImprover(100, 0, new DistanceMatrix(0)).improve(route));
+    }
+
+    private Order order(Long id, int x, int y) {
+        return new Order(id, x, y, 1.0, OrderPriority.LOW, OrderState.ALLOCATED);
+    }
+}
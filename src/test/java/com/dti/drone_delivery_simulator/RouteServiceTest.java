@@ -5,11 +5,17 @@ import com.dti.drone_delivery_simulator.enums.DroneState;
 import com.dti.drone_delivery_simulator.enums.OrderPriority;
 import com.dti.drone_delivery_simulator.enums.OrderState;
 import com.dti.drone_delivery_simulator.enums.RouteStatus;
+import com.dti.drone_delivery_simulator.exception.InvalidPageRequestException;
 import com.dti.drone_delivery_simulator.exception.OrderNotFoundException;
 import com.dti.drone_delivery_simulator.model.Drone;
 import com.dti.drone_delivery_simulator.model.Order;
 import com.dti.drone_delivery_simulator.model.Route;
 import com.dti.drone_delivery_simulator.repository.InMemoryRouteRepository;
+import com.dti.drone_delivery_simulator.retention.RetentionArchive;
+import com.dti.drone_delivery_simulator.routing.DistanceMatrix;
+import com.dti.drone_delivery_simulator.routing.ExactRouteSolver;
+import com.dti.drone_delivery_simulator.routing.RouteCost;
+import com.dti.drone_delivery_simulator.routing.RouteImprover;
 import com.dti.drone_delivery_simulator.service.RouteService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +42,15 @@ class RouteServiceTest {
     @Mock
     private InMemoryRouteRepository routeRepository;
 
+    @Mock
+    private RetentionArchive retentionArchive;
+
+    @Spy
+    private RouteImprover routeImprover = new RouteImprover(0, 0, new DistanceMatrix(0));
+
+    @Spy
+    private ExactRouteSolver exactRouteSolver = new ExactRouteSolver(0, 0, new DistanceMatrix(0));
+
     @Spy
     @InjectMocks
     private RouteService routeService;
@@ -53,6 +68,23 @@ class RouteServiceTest {
         route = new Route(1L, drone, Arrays.asList(order1, order2), 20.0, RouteStatus.PLANNED);
     }
 
+    @Test
+    void findRoutesPage_WhenLimitIsNotPositive_ThrowsInvalidPageRequestException() {
+        assertThrows(InvalidPageRequestException.class, () -> routeService.findRoutesPage(null, 0));
+        assertThrows(InvalidPageRequestException.class, () -> routeService.findRoutesPage(5L, -1));
+        verify(routeRepository, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    void findRoutesPage_WhenLimitIsTooLarge_CapsPageSize() {
+        when(routeRepository.findPage(null, RouteService.MAX_PAGE_SIZE)).thenReturn(List.of(route));
+
+        List<RouteResponseDTO> page = routeService.findRoutesPage(null, Integer.MAX_VALUE);
+
+        assertEquals(1, page.size());
+        verify(retentionArchive).findRoutesAfter(Long.MIN_VALUE, RouteService.MAX_PAGE_SIZE);
+    }
+
     @Test
     void createRoute_WhenOrdersListIsEmpty_ThrowsOrderNotFoundException() {
         assertThrows(OrderNotFoundException.class, () -> routeService.createRoute(drone, Collections.emptyList()));
@@ -112,13 +144,25 @@ class RouteServiceTest {
 
     @Test
     void calculateRouteDistance_WhenOrdersListIsNotEmpty_ReturnsCorrectDistance() {
-        List<Order> orders = Arrays.asList(order1, order2);
-
-        doReturn(10.0).when(routeService).calculateDistance(anyInt(), anyInt(), anyInt(), anyInt());
+        Order order3 = new Order(3L, 1, 0, 1.0, OrderPriority.LOW, OrderState.ALLOCATED);
+        List<Order> orders = Arrays.asList(order1, order2, order3);
 
         double totalDistance = routeService.calculateRouteDistance(orders, 0, 0);
 
-        assertEquals(30.0, totalDistance);
+        assertEquals(10.0 + Math.sqrt(200) + Math.sqrt(101) + 1.0, totalDistance, 1e-9);
+    }
+
+    @Test
+    void getOptimizedRoute_ShouldNeverFlyLongerThanTheAllocatedTour() {
+        List<Order> allocated = Arrays.asList(
+            new Order(1L, 1, 0, 1.0, OrderPriority.LOW, OrderState.ALLOCATED),
+            new Order(2L, 5, 0, 1.0, OrderPriority.LOW, OrderState.ALLOCATED),
+            new Order(3L, -2, 0, 1.0, OrderPriority.LOW, OrderState.ALLOCATED));
+
+        List<Order> optimized = routeService.getOptimizedRoute(allocated);
+
+        assertEquals(14.0, RouteCost.tourKm(allocated));
+        assertEquals(allocated, optimized);
     }
 
     @Test
@@ -0,0 +1,83 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.simulation.ScaledClock;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+import com.dti.drone_delivery_simulator.simulation.VirtualClock;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class SimulationEngineBenchmarkTest {
+
+    private static final int FLIGHTS = 10_000;
+    private static final int LEGS = 6;
+
+    @Test
+    void reportConcurrentFlightsOnSingleWorker() throws InterruptedException {
+        SimulationEngine simulationEngine = new SimulationEngine(new ScaledClock(1.0));
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        CountDownLatch landed = new CountDownLatch(FLIGHTS);
+        AtomicInteger peakPending = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int flight = 0; flight < FLIGHTS; flight++) {
+            fly(simulationEngine, LEGS, landed, peakPending);
+        }
+        assertTrue(landed.await(60, TimeUnit.SECONDS));
+        double millis = (System.nanoTime() - start) / 1e6;
+        int threadsAfter = ManagementFactory.getThreadMXBean().getThreadCount();
+        simulationEngine.close();
+
+        System.out.printf("simulation engine: %d flights x %d legs (%d events) in %.1f ms, peak %d pending, threads %d -> %d%n",
+            FLIGHTS, LEGS, FLIGHTS * LEGS, millis, peakPending.get(), threadsBefore, threadsAfter);
+        assertTrue(threadsAfter <= threadsBefore + 1);
+    }
+
+    private void fly(SimulationEngine simulationEngine, int legsLeft, CountDownLatch landed, AtomicInteger peakPending) {
+        if (legsLeft == 0) {
+            landed.countDown();
+            return;
+        }
+        peakPending.accumulateAndGet(simulationEngine.pendingEvents(), Math::max);
+        simulationEngine.schedule(1, TimeUnit.MILLISECONDS,
+            () -> fly(simulationEngine, legsLeft - 1, landed, peakPending));
+    }
+
+    @Test
+    void reportSimulatedDayAsFastAsPossible() {
+        SimulationEngine simulationEngine = new SimulationEngine(new VirtualClock(), false);
+        CountDownLatch landed = new CountDownLatch(FLIGHTS);
+
+        long start = System.nanoTime();
+        for (int flight = 0; flight < FLIGHTS; flight++) {
+            long departure = TimeUnit.DAYS.toSeconds(1) * flight / FLIGHTS;
+            simulationEngine.schedule(departure, TimeUnit.SECONDS,
+                () -> flyMinutes(simulationEngine, LEGS, landed));
+        }
+        simulationEngine.runUntilIdle();
+        double millis = (System.nanoTime() - start) / 1e6;
+        long simulatedHours = simulationEngine.now(TimeUnit.HOURS);
+
+        System.out.printf("virtual clock: %d flights over %d simulated hours in %.1f ms%n",
+            FLIGHTS, simulatedHours, millis);
+        assertEquals(0, landed.getCount());
+        assertTrue(simulatedHours >= 24);
+    }
+
+    private void flyMinutes(SimulationEngine simulationEngine, int legsLeft, CountDownLatch landed) {
+        if (legsLeft == 0) {
+            landed.countDown();
+            return;
+        }
+        simulationEngine.schedule(10, TimeUnit.MINUTES, () -> flyMinutes(simulationEngine, legsLeft - 1, landed));
+    }
+}
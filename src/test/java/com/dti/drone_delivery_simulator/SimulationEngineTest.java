@@ -0,0 +1,101 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.simulation.ScaledClock;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+import com.dti.drone_delivery_simulator.simulation.VirtualClock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEngineTest {
+
+    private SimulationEngine simulationEngine;
+
+    @BeforeEach
+    void setUp() {
+        simulationEngine = new SimulationEngine(new ScaledClock(1.0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationEngine.close();
+    }
+
+    @Test
+    void schedule_ShouldRunEventsInDueTimeOrderAndTiesInSubmissionOrder() throws InterruptedException {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(4);
+
+        simulationEngine.schedule(120, TimeUnit.MILLISECONDS, () -> { fired.add("late"); done.countDown(); });
+        simulationEngine.schedule(40, TimeUnit.MILLISECONDS, () -> { fired.add("early"); done.countDown(); });
+        simulationEngine.schedule(0, TimeUnit.MILLISECONDS, () -> { fired.add("first"); done.countDown(); });
+        simulationEngine.schedule(0, TimeUnit.MILLISECONDS, () -> { fired.add("second"); done.countDown(); });
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "second", "early", "late"), fired);
+        assertEquals(0, simulationEngine.pendingEvents());
+    }
+
+    @Test
+    void schedule_ShouldNotRunEventBeforeItsDueTime() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        simulationEngine.schedule(100, TimeUnit.MILLISECONDS, done::countDown);
+
+        assertEquals(1, simulationEngine.pendingEvents());
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void schedule_ShouldKeepRunningAfterFailingEvent() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+
+        simulationEngine.schedule(0, TimeUnit.MILLISECONDS, () -> { throw new IllegalStateException("falha"); });
+        simulationEngine.schedule(10, TimeUnit.MILLISECONDS, done::countDown);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void schedule_ShouldCompressSimulatedTimeBySpeedUpFactor() throws InterruptedException {
+        simulationEngine.close();
+        simulationEngine = new SimulationEngine(new ScaledClock(100.0));
+        CountDownLatch done = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        simulationEngine.schedule(10, TimeUnit.SECONDS, done::countDown);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        long elapsed = System.nanoTime() - start;
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(simulationEngine.now(TimeUnit.SECONDS) >= 10);
+    }
+
+    @Test
+    void runUntilIdle_ShouldJumpStraightToNextEventWhenRunningAsFastAsPossible() {
+        SimulationEngine manualEngine = new SimulationEngine(new VirtualClock(), false);
+        List<Long> firedAt = new ArrayList<>();
+
+        manualEngine.schedule(1, TimeUnit.DAYS, () -> firedAt.add(manualEngine.now(TimeUnit.HOURS)));
+        manualEngine.schedule(2, TimeUnit.HOURS, () -> {
+            firedAt.add(manualEngine.now(TimeUnit.HOURS));
+            manualEngine.schedule(3, TimeUnit.HOURS, () -> firedAt.add(manualEngine.now(TimeUnit.HOURS)));
+        });
+
+        manualEngine.runUntilIdle();
+
+        assertEquals(List.of(2L, 5L, 24L), firedAt);
+        assertTrue(manualEngine.isIdle());
+    }
+}
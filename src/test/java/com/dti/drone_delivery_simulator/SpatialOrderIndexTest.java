@@ -0,0 +1,93 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.repository.SpatialOrderIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialOrderIndexTest {
+
+    private SpatialOrderIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SpatialOrderIndex(10);
+    }
+
+    @Test
+    void findWithinRadius_ShouldReturnOnlyOrdersInsideCircleSortedById() {
+        index.add(order(3L, 3, 4));
+        index.add(order(1L, -6, 8));
+        index.add(order(2L, 11, 0));
+
+        List<Order> result = index.findWithinRadius(0, 0, 10);
+
+        assertEquals(List.of(1L, 3L), result.stream().map(Order::getId).toList());
+    }
+
+    @Test
+    void findNearest_ShouldMatchBruteForceScan() {
+        Random random = new Random(42);
+        List<Order> orders = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            Order order = order(id, random.nextInt(400) - 200, random.nextInt(400) - 200);
+            orders.add(order);
+            index.add(order);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            int x = random.nextInt(600) - 300;
+            int y = random.nextInt(600) - 300;
+
+            Order expected = orders.stream()
+                .min(Comparator.comparingDouble((Order o) -> Math.hypot(o.getClientPositionX() - x, o.getClientPositionY() - y))
+                    .thenComparing(Order::getId))
+                .orElseThrow();
+
+            assertEquals(expected.getId(), index.findNearest(x, y).orElseThrow().getId());
+        }
+    }
+
+    @Test
+    void remove_ShouldHideOrderFromQueries() {
+        Order order = order(1L, 5, 5);
+        index.add(order);
+        index.remove(order);
+
+        assertEquals(0, index.size());
+        assertTrue(index.findNearest(0, 0).isEmpty());
+        assertTrue(index.findWithinRadius(5, 5, 1).isEmpty());
+    }
+
+    @Test
+    void add_WhenOrderMovedToAnotherCell_ShouldRelocateIt() {
+        Order order = order(1L, 5, 5);
+        index.add(order);
+        order.setClientPositionX(55);
+        order.setClientPositionY(55);
+        index.add(order);
+
+        assertEquals(1, index.size());
+        assertTrue(index.findWithinRadius(5, 5, 1).isEmpty());
+        assertEquals(List.of(order), index.findWithinRadius(55, 55, 1));
+
+        index.remove(order(1L, 0, 0));
+
+        assertEquals(0, index.size());
+        assertTrue(index.findWithinRadius(55, 55, 1).isEmpty());
+    }
+
+    private Order order(Long id, int x, int y) {
+        return new Order(id, x, y, 1.0, OrderPriority.LOW, OrderState.PENDING);
+    }
+}
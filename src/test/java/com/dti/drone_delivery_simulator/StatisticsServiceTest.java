@@ -70,8 +70,11 @@ class StatisticsServiceTest {
 
     @Test
     void statisticsCalculation_ShouldReturnCorrectStatistics() {
-        when(routeService.findAllRoutes()).thenReturn(mockRoutes);
-        when(orderService.findAll()).thenReturn(mockOrders);
+        when(routeService.countRoutes()).thenReturn((long) mockRoutes.size());
+        when(routeService.countRoutedOrders()).thenReturn(
+                mockRoutes.stream().mapToLong(route -> route.orders().size()).sum());
+        when(orderService.countByState(OrderState.DELIVERED)).thenReturn(
+                mockOrders.stream().filter(order -> order.getState() == OrderState.DELIVERED).count());
         when(droneService.getAllDrones()).thenReturn(mockDrones);
 
         StatisticsResponseDTO result = statisticsService.statisticsCalculation();
@@ -84,8 +87,8 @@ class StatisticsServiceTest {
 
     @Test
     void statisticsCalculation_WhenNoData_ShouldReturnZeroes() {
-        when(routeService.findAllRoutes()).thenReturn(Collections.emptyList());
-        when(orderService.findAll()).thenReturn(Collections.emptyList());
+        when(routeService.countRoutes()).thenReturn(0L);
+        when(orderService.countByState(OrderState.DELIVERED)).thenReturn(0L);
         when(droneService.getAllDrones()).thenReturn(Collections.emptyList());
 
         StatisticsResponseDTO result = statisticsService.statisticsCalculation();
@@ -0,0 +1,34 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.batch.WorkloadGenerator;
+import com.dti.drone_delivery_simulator.batch.WorkloadProfile;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+class WorkloadGeneratorBenchmarkTest {
+
+    private static final int ORDERS = 10_000_000;
+
+    @Test
+    void reportStreamingGenerationRate() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        long start = System.nanoTime();
+        double[] payloadSum = new double[1];
+        long generated = WorkloadGenerator.stream(WorkloadProfile.DEFAULT, 42).limit(ORDERS)
+            .peek(order -> payloadSum[0] += order.request().payloadKg())
+            .count();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        System.out.printf("workload generator: %d orders in %.2f s (%.1f M orders/s), mean payload %.2f kg, heap delta %d MB%n",
+            generated, seconds, generated / seconds / 1e6, payloadSum[0] / generated, (heapAfter - heapBefore) >> 20);
+        assertEquals(ORDERS, generated);
+    }
+}
@@ -0,0 +1,64 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.batch.WorkloadGenerator;
+import com.dti.drone_delivery_simulator.batch.WorkloadOrder;
+import com.dti.drone_delivery_simulator.batch.WorkloadProfile;
+import com.dti.drone_delivery_simulator.batch.WorkloadProfile.Hotspot;
+import com.dti.drone_delivery_simulator.enums.OrderPriority;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadGeneratorTest {
+
+    private static final int ORDERS = 200_000;
+
+    @Test
+    void stream_ShouldBeDeterministicForSameSeed() {
+        List<WorkloadOrder> first = WorkloadGenerator.stream(WorkloadProfile.DEFAULT, 9).limit(1_000).toList();
+        List<WorkloadOrder> second = WorkloadGenerator.stream(WorkloadProfile.DEFAULT, 9).limit(1_000).toList();
+        List<WorkloadOrder> other = WorkloadGenerator.stream(WorkloadProfile.DEFAULT, 10).limit(1_000).toList();
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    void stream_ShouldFollowPoissonRateAndPriorityMix() {
+        WorkloadProfile profile = WorkloadProfile.DEFAULT.withArrivalsPerSecond(4.0);
+        Map<OrderPriority, Integer> priorities = new EnumMap<>(OrderPriority.class);
+        long[] lastArrival = new long[1];
+
+        WorkloadGenerator.stream(profile, 1).limit(ORDERS).forEach(order -> {
+            assertTrue(order.arrivalMs() >= lastArrival[0]);
+            lastArrival[0] = order.arrivalMs();
+            priorities.merge(order.request().priority(), 1, Integer::sum);
+            assertTrue(order.request().payloadKg() >= 0.1 && order.request().payloadKg() <= profile.payloadMaxKg());
+            assertTrue(Math.abs(order.request().clientPositionX()) <= profile.radiusKm());
+            assertTrue(Math.abs(order.request().clientPositionY()) <= profile.radiusKm());
+        });
+
+        double observedRate = ORDERS / (lastArrival[0] / 1_000.0);
+        assertEquals(4.0, observedRate, 0.1);
+        assertEquals(0.2, priorities.get(OrderPriority.HIGH) / (double) ORDERS, 0.01);
+        assertEquals(0.5, priorities.get(OrderPriority.LOW) / (double) ORDERS, 0.01);
+    }
+
+    @Test
+    void stream_ShouldConcentrateOrdersAroundHotspots() {
+        WorkloadProfile profile = new WorkloadProfile(1.0, 10, List.of(new Hotspot(6, 6, 1.0, 1.0)), 0.8,
+            1.0, 0.0, 5.0, Map.of(OrderPriority.LOW, 1.0));
+
+        long nearHotspot = WorkloadGenerator.stream(profile, 3).limit(ORDERS)
+            .filter(order -> Math.abs(order.request().clientPositionX() - 6) <= 2
+                && Math.abs(order.request().clientPositionY() - 6) <= 2)
+            .count();
+
+        assertTrue(nearHotspot / (double) ORDERS > 0.75);
+    }
+}
@@ -0,0 +1,86 @@
+package com.dti.drone_delivery_simulator;
+
+import com.dti.drone_delivery_simulator.dto.OrderRequestDTO;
+import com.dti.drone_delivery_simulator.dto.WorkloadRequestDTO;
+import com.dti.drone_delivery_simulator.dto.WorkloadStatusDTO;
+import com.dti.drone_delivery_simulator.enums.OrderState;
+import com.dti.drone_delivery_simulator.exception.InvalidWorkloadRequestException;
+import com.dti.drone_delivery_simulator.exception.WorkloadAlreadyRunningException;
+import com.dti.drone_delivery_simulator.model.Order;
+import com.dti.drone_delivery_simulator.service.OrderService;
+import com.dti.drone_delivery_simulator.service.WorkloadService;
+import com.dti.drone_delivery_simulator.simulation.SimulationEngine;
+import com.dti.drone_delivery_simulator.simulation.VirtualClock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private final SimulationEngine simulationEngine = new SimulationEngine(new VirtualClock(), false);
+    private WorkloadService workloadService;
+
+    @BeforeEach
+    void setUp() {
+        workloadService = new WorkloadService(orderService, simulationEngine);
+    }
+
+    @Test
+    void start_ShouldStreamRequestedOrdersIntoOrderService() {
+        when(orderService.createOrder(any(OrderRequestDTO.class)))
+            .thenAnswer(invocation -> new Order(1L, 0, 0, 1.0, null, OrderState.PENDING));
+
+        WorkloadStatusDTO started = workloadService.start(new WorkloadRequestDTO(500, 7, 10.0));
+        simulationEngine.runUntilIdle();
+        WorkloadStatusDTO finished = workloadService.status();
+
+        assertTrue(started.running());
+        assertFalse(finished.running());
+        assertEquals(500, finished.submitted());
+        assertEquals(500, finished.accepted());
+        assertEquals(10.0, finished.arrivalsPerSecond());
+        assertTrue(simulationEngine.now(TimeUnit.SECONDS) > 0);
+        verify(orderService, times(500)).createOrder(any(OrderRequestDTO.class));
+    }
+
+    @Test
+    void start_ShouldRejectSecondWorkloadWhileRunningAndStopOnRequest() {
+        workloadService.start(new WorkloadRequestDTO(1_000, 7, null));
+
+        assertThrows(WorkloadAlreadyRunningException.class,
+            () -> workloadService.start(new WorkloadRequestDTO(10, 1, null)));
+
+        WorkloadStatusDTO stopped = workloadService.stop();
+        simulationEngine.runUntilIdle();
+
+        assertFalse(stopped.running());
+        assertEquals(0, workloadService.status().submitted());
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void start_WhenRequestIsInvalid_ThrowsInvalidWorkloadRequestException() {
+        assertThrows(InvalidWorkloadRequestException.class,
+            () -> workloadService.start(new WorkloadRequestDTO(0, 7, null)));
+        assertThrows(InvalidWorkloadRequestException.class,
+            () -> workloadService.start(new WorkloadRequestDTO(10, 7, 0.0)));
+        assertThrows(InvalidWorkloadRequestException.class,
+            () -> workloadService.start(new WorkloadRequestDTO(10, 7, -2.0)));
+
+        assertFalse(workloadService.status().running());
+        verifyNoInteractions(orderService);
+    }
+}